@@ -0,0 +1,20 @@
+package com.abyssalfishing.processor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates, in the annotated class's package, an immutable snapshot record of its
+ * {@link ConfigKey} fields and a reflection-free {@code <Class>Codec} to read, write,
+ * validate and copy them
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface ConfigCodec {
+    /**
+     * Simple name of the generated snapshot record
+     */
+    String snapshot();
+}
@@ -0,0 +1,272 @@
+package com.abyssalfishing.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates the snapshot record and codec for classes annotated with {@link ConfigCodec}.
+ * The codec is plain field access and a switch over key names: no reflection at runtime
+ */
+@SupportedAnnotationTypes("com.abyssalfishing.processor.ConfigCodec")
+public class ConfigCodecProcessor extends AbstractProcessor {
+    private static final String GENERATED = "@javax.annotation.processing.Generated(\"" + ConfigCodecProcessor.class.getName() + "\")";
+
+    private record Key(String name, TypeKind kind, double min, double max) {
+        String type() {
+            return kind.name().toLowerCase();
+        }
+
+        boolean numeric() {
+            return kind != TypeKind.BOOLEAN;
+        }
+
+        String literal(double value) {
+            return switch (kind) {
+                case INT -> Integer.toString((int) value);
+                case LONG -> (long) value + "L";
+                case FLOAT -> (float) value + "F";
+                default -> Double.toString(value);
+            };
+        }
+
+        String parser() {
+            return switch (kind) {
+                case BOOLEAN -> "parseBoolean(value)";
+                case INT -> "Integer.parseInt(value)";
+                case LONG -> "Long.parseLong(value)";
+                case FLOAT -> "parseFloat(value)";
+                default -> "parseDouble(value)";
+            };
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(ConfigCodec.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@ConfigCodec only applies to classes");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            List<Key> keys = collectKeys(type);
+            if (keys == null) continue;
+
+            String pkg = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+            String config = type.getSimpleName().toString();
+            String snapshot = type.getAnnotation(ConfigCodec.class).snapshot();
+            String codec = config + "Codec";
+            writeSource(type, pkg, snapshot, generateSnapshot(pkg, config, snapshot, keys));
+            writeSource(type, pkg, codec, generateCodec(pkg, config, snapshot, codec, keys));
+        }
+        return true;
+    }
+
+    private List<Key> collectKeys(TypeElement type) {
+        List<Key> keys = new ArrayList<>();
+        boolean valid = true;
+        for (Element member : type.getEnclosedElements()) {
+            ConfigKey annotation = member.getAnnotation(ConfigKey.class);
+            if (annotation == null || member.getKind() != ElementKind.FIELD) continue;
+
+            VariableElement field = (VariableElement) member;
+            Set<Modifier> modifiers = field.getModifiers();
+            TypeKind kind = field.asType().getKind();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                error(field, "@ConfigKey fields must be non-private, non-static and non-final");
+                valid = false;
+            } else if (kind != TypeKind.BOOLEAN && kind != TypeKind.INT && kind != TypeKind.LONG
+                && kind != TypeKind.FLOAT && kind != TypeKind.DOUBLE) {
+                error(field, "@ConfigKey fields must be boolean, int, long, float or double");
+                valid = false;
+            } else if (annotation.min() > annotation.max()) {
+                error(field, "@ConfigKey min is greater than max");
+                valid = false;
+            } else {
+                keys.add(new Key(field.getSimpleName().toString(), kind, annotation.min(), annotation.max()));
+            }
+        }
+        if (keys.isEmpty() && valid) {
+            error(type, "@ConfigCodec class has no @ConfigKey fields");
+            valid = false;
+        }
+        return valid ? keys : null;
+    }
+
+    private static String generateSnapshot(String pkg, String config, String snapshot, List<Key> keys) {
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(pkg).append(";\n\n");
+        out.append("/**\n");
+        out.append(" * Immutable copy of every {@link ").append(config).append("} value.\n");
+        out.append(" * Generated from its @ConfigKey fields - do not edit\n");
+        out.append(" */\n");
+        out.append(GENERATED).append('\n');
+        out.append("public record ").append(snapshot).append("(\n");
+        for (int i = 0; i < keys.size(); i++) {
+            Key key = keys.get(i);
+            out.append("    ").append(key.type()).append(' ').append(key.name()).append(i < keys.size() - 1 ? ",\n" : "\n");
+        }
+        out.append(") {}\n");
+        return out.toString();
+    }
+
+    private static String generateCodec(String pkg, String config, String snapshot, String codec, List<Key> keys) {
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(pkg).append(";\n\n");
+        out.append("import java.io.BufferedReader;\n");
+        out.append("import java.io.IOException;\n");
+        out.append("import java.util.function.Consumer;\n\n");
+        out.append("/**\n");
+        out.append(" * Reads, writes, validates and copies {@link ").append(config).append("} values.\n");
+        out.append(" * Generated from its @ConfigKey fields - do not edit\n");
+        out.append(" */\n");
+        out.append(GENERATED).append('\n');
+        out.append("public final class ").append(codec).append(" {\n");
+        out.append("    private ").append(codec).append("() {\n    }\n\n");
+
+        // Field <-> snapshot copies
+        out.append("    public static ").append(snapshot).append(" snapshot(").append(config).append(" config) {\n");
+        out.append("        return new ").append(snapshot).append("(\n");
+        appendArguments(out, keys, "config.", "");
+        out.append("        );\n    }\n\n");
+
+        out.append("    public static void apply(").append(snapshot).append(" values, ").append(config).append(" config) {\n");
+        for (Key key : keys) {
+            out.append("        config.").append(key.name()).append(" = values.").append(key.name()).append("();\n");
+        }
+        out.append("    }\n\n");
+
+        // Range clamping
+        out.append("    /**\n     * Copy of {@code values} with every key clamped into its declared range\n     */\n");
+        out.append("    public static ").append(snapshot).append(" sanitize(").append(snapshot).append(" values, Consumer<String> warnings) {\n");
+        for (Key key : keys) {
+            out.append("        ").append(key.type()).append(' ').append(key.name()).append(" = values.").append(key.name()).append("();\n");
+            if (!key.numeric()) continue;
+            if (!Double.isInfinite(key.min())) {
+                appendClamp(out, key, "<", key.min(), "minimum");
+            }
+            if (!Double.isInfinite(key.max())) {
+                appendClamp(out, key, ">", key.max(), "maximum");
+            }
+        }
+        out.append("        return new ").append(snapshot).append("(\n");
+        appendArguments(out, keys, "", "");
+        out.append("        );\n    }\n\n");
+
+        // Single-pass reader
+        out.append("    /**\n");
+        out.append("     * Parses key=value lines in one pass. Missing keys keep {@code defaults}; malformed\n");
+        out.append("     * values and unknown keys are reported and skipped. The result is sanitized\n");
+        out.append("     */\n");
+        out.append("    public static ").append(snapshot).append(" read(BufferedReader in, ").append(snapshot)
+            .append(" defaults, Consumer<String> warnings) throws IOException {\n");
+        for (Key key : keys) {
+            out.append("        ").append(key.type()).append(' ').append(key.name()).append(" = defaults.").append(key.name()).append("();\n");
+        }
+        out.append("        String line;\n");
+        out.append("        int lineNumber = 0;\n");
+        out.append("        while ((line = in.readLine()) != null) {\n");
+        out.append("            lineNumber++;\n");
+        out.append("            int start = 0;\n");
+        out.append("            while (start < line.length() && Character.isWhitespace(line.charAt(start))) start++;\n");
+        out.append("            if (start == line.length() || line.charAt(start) == '#' || line.charAt(start) == '!') continue;\n");
+        out.append("            int separator = start;\n");
+        out.append("            while (separator < line.length() && line.charAt(separator) != '=' && line.charAt(separator) != ':') separator++;\n");
+        out.append("            if (separator == line.length()) {\n");
+        out.append("                warnings.accept(\"line \" + lineNumber + \": expected key=value\");\n");
+        out.append("                continue;\n");
+        out.append("            }\n");
+        out.append("            String key = line.substring(start, separator).trim();\n");
+        out.append("            String value = line.substring(separator + 1).trim();\n");
+        out.append("            try {\n");
+        out.append("                switch (key) {\n");
+        for (Key key : keys) {
+            out.append("                    case \"").append(key.name()).append("\" -> ").append(key.name()).append(" = ").append(key.parser()).append(";\n");
+        }
+        out.append("                    default -> warnings.accept(\"line \" + lineNumber + \": unknown key \" + key);\n");
+        out.append("                }\n");
+        out.append("            } catch (IllegalArgumentException e) {\n");
+        out.append("                warnings.accept(\"line \" + lineNumber + \": invalid value for \" + key + \": \" + value);\n");
+        out.append("            }\n");
+        out.append("        }\n");
+        out.append("        return sanitize(new ").append(snapshot).append("(\n");
+        appendArguments(out, keys, "", "");
+        out.append("        ), warnings);\n    }\n\n");
+
+        // Writer
+        out.append("    public static void write(").append(snapshot).append(" values, StringBuilder out) {\n");
+        for (Key key : keys) {
+            out.append("        out.append(\"").append(key.name()).append("=\").append(values.").append(key.name()).append("()).append('\\n');\n");
+        }
+        out.append("    }\n\n");
+
+        out.append("    private static boolean parseBoolean(String value) {\n");
+        out.append("        if (value.equalsIgnoreCase(\"true\")) return true;\n");
+        out.append("        if (value.equalsIgnoreCase(\"false\")) return false;\n");
+        out.append("        throw new IllegalArgumentException(\"not a boolean\");\n");
+        out.append("    }\n\n");
+        out.append("    private static float parseFloat(String value) {\n");
+        out.append("        float parsed = Float.parseFloat(value);\n");
+        out.append("        if (!Float.isFinite(parsed)) throw new IllegalArgumentException(\"not finite\");\n");
+        out.append("        return parsed;\n");
+        out.append("    }\n\n");
+        out.append("    private static double parseDouble(String value) {\n");
+        out.append("        double parsed = Double.parseDouble(value);\n");
+        out.append("        if (!Double.isFinite(parsed)) throw new IllegalArgumentException(\"not finite\");\n");
+        out.append("        return parsed;\n");
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static void appendArguments(StringBuilder out, List<Key> keys, String prefix, String suffix) {
+        for (int i = 0; i < keys.size(); i++) {
+            out.append("            ").append(prefix).append(keys.get(i).name()).append(suffix).append(i < keys.size() - 1 ? ",\n" : "\n");
+        }
+    }
+
+    private static void appendClamp(StringBuilder out, Key key, String comparison, double bound, String label) {
+        String literal = key.literal(bound);
+        out.append("        if (").append(key.name()).append(' ').append(comparison).append(' ').append(literal).append(") {\n");
+        out.append("            warnings.accept(\"").append(key.name()).append("=\" + ").append(key.name())
+            .append(" + \" is outside its range, using ").append(label).append(' ').append(literal.replaceAll("[LF]$", "")).append("\");\n");
+        out.append("            ").append(key.name()).append(" = ").append(literal).append(";\n");
+        out.append("        }\n");
+    }
+
+    private void writeSource(TypeElement origin, String pkg, String name, String source) {
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(pkg + "." + name, origin);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            error(origin, "Failed to write " + name + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        Messager messager = processingEnv.getMessager();
+        messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,88 @@
+package com.abyssalfishing.core;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.projectile.FishingBobberEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.objenesis.ObjenesisStd;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hooked-entity read per bite check: the old per-call reflective lookup against
+ * the public getter FishingManager calls now. The benchmark classpath uses named
+ * mappings, so {@link #reflectionProduction} swaps the two names the old code tried
+ * to reproduce what it did at runtime under intermediary names: a failed lookup
+ * (thrown and caught NoSuchMethodException), then the fallback
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HookedEntityBenchmark {
+    private FishingBobberEntity bobber;
+
+    @Setup
+    public void setup() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        // Only the hooked entity field is read, so the bobber needs no world (and no constructor)
+        bobber = new ObjenesisStd().newInstance(FishingBobberEntity.class);
+    }
+
+    /**
+     * The old path when the first name resolves (named mappings, e.g. a dev run)
+     */
+    @Benchmark
+    public Entity reflection() {
+        return reflectiveLookup(bobber, "getHookedEntity", "method_3716");
+    }
+
+    /**
+     * The old path in production: the first lookup fails and throws before the fallback
+     */
+    @Benchmark
+    public Entity reflectionProduction() {
+        return reflectiveLookup(bobber, "method_3716", "getHookedEntity");
+    }
+
+    @Benchmark
+    public Entity getter() {
+        return bobber.getHookedEntity();
+    }
+
+    // What getHookedEntity did before: resolve the method on every call
+    private static Entity reflectiveLookup(FishingBobberEntity bobber, String name, String fallbackName) {
+        try {
+            Method method = bobber.getClass().getMethod(name);
+            Object result = method.invoke(bobber);
+            if (result instanceof Entity) {
+                return (Entity) result;
+            }
+        } catch (NoSuchMethodException e) {
+            try {
+                Method method = bobber.getClass().getMethod(fallbackName);
+                Object result = method.invoke(bobber);
+                if (result instanceof Entity) {
+                    return (Entity) result;
+                }
+            } catch (Exception ignored) {
+            }
+        } catch (Exception ignored) {
+        }
+        return null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.abyssalfishing.features;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.passive.SquidEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.registry.Registries;
+import net.minecraft.world.World;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-scan pet ownership check on a sea creature candidate: the old writeNbt probe
+ * against the live synced-data checks in SeaCreatureClassifier. Run with -prof gc
+ * for the allocation side
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PetDetectionBenchmark {
+    private Entity entity;
+
+    @Setup
+    public void setup() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        // Serializing an entity only needs registries from its world
+        World world = Mockito.mock(World.class);
+        Mockito.when(world.getRegistryManager()).thenReturn(DynamicRegistryManager.of(Registries.REGISTRIES));
+        entity = new SquidEntity(EntityType.SQUID, world);
+    }
+
+    @Benchmark
+    public boolean nbtProbe() {
+        // What hasPetData did before on every scan
+        try {
+            NbtCompound nbt = entity.writeNbt(new NbtCompound());
+            if (nbt != null) {
+                return nbt.contains("Pet") ||
+                    nbt.contains("pet") ||
+                    nbt.contains("OwnerUUID") ||
+                    nbt.contains("ownerUUID") ||
+                    nbt.contains("OwnerName") ||
+                    nbt.contains("ownerName");
+            }
+        } catch (Exception e) {
+            // NBT check failed, continue with other checks
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean liveSignals() {
+        return SeaCreatureClassifier.isOwned(entity);
+    }
+}
@@ -0,0 +1,86 @@
+package com.abyssalfishing.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sea creature name check per entity: the old strip/lowercase/contains chain against
+ * NameMatcher with the same patterns. Run with -prof gc for the allocation side
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameMatcherBenchmark {
+    // The list FishingManager used to check inline, in the same order
+    private static final String[] PATTERNS = {
+        "guardian", "squid", "hydra", "shark", "sea walker", "sea guardian", "sea witch", "sea archer",
+        "sea leech", "frozen steve", "night squid", "water hydra", "deep sea", "frost walker", "yeti",
+        "reindrake", "emperor", "lord jawbus", "great white", "nurse shark", "blue shark", "tiger shark",
+        "revenant horror", "terror", "phantom fisher", "grim reaper", "sea", "water", "deep", "abyss",
+        "fisher", "meg", "fish", "fishing"
+    };
+    private static final long FISH = 1L << (PATTERNS.length - 2);
+    private static final long FISHING = 1L << (PATTERNS.length - 1);
+    private static final long NAMES = ~(FISH | FISHING);
+
+    // Typical names seen while fishing: Hypixel nametags, pets, plain mobs
+    private static final String[] SAMPLES = {
+        "§8[§7Lv45§8] §cSea Guardian§r §a5,000§f/§a5,000§c❤",
+        "§8[§7Lv600§8] §c§lLord Jawbus§r §a100M§f/§a100M§c❤",
+        "§7[Lvl 100] §6Blue Whale",
+        "§fArmor Stand",
+        "Zombie",
+        "§8[§7Lv10§8] §cFishing Villager§r §a1,000§f/§a1,000§c❤",
+        "§8[§7Lv20§8] §cTrash Gobbler§r §a2,500§f/§a2,500§c❤",
+        "Squid"
+    };
+
+    private static final NameMatcher MATCHER = new NameMatcher(PATTERNS);
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public int chain() {
+        int hits = 0;
+        for (String name : SAMPLES) {
+            if (matchesChain(name)) hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(8)
+    public int matcher() {
+        int hits = 0;
+        for (String name : SAMPLES) {
+            long mask = MATCHER.match(name);
+            if ((mask & NAMES) != 0 || ((mask & FISH) != 0 && (mask & FISHING) == 0)) hits++;
+        }
+        return hits;
+    }
+
+    private static boolean matchesChain(String rawName) {
+        String cleanName = stripColorCodes(rawName).toLowerCase();
+        for (int i = 0; i < PATTERNS.length - 2; i++) {
+            if (cleanName.contains(PATTERNS[i])) return true;
+        }
+        return cleanName.contains("fish") && !cleanName.contains("fishing");
+    }
+
+    private static String stripColorCodes(String text) {
+        if (text == null) return "";
+        return text.replaceAll("§[0-9a-fk-or]", "");
+    }
+}
@@ -1,13 +1,24 @@
 package com.abyssalfishing;
 
 import com.abyssalfishing.core.FishingManager;
+import com.abyssalfishing.core.TraceLog;
 import com.abyssalfishing.config.AbyssalConfig;
+import com.abyssalfishing.config.ConfigSaver;
+import com.abyssalfishing.config.ConfigSnapshot;
+import com.abyssalfishing.features.NametagIndex;
+import com.abyssalfishing.features.SeaCreatureClassifier;
+import com.abyssalfishing.features.SeaCreatureIndex;
+import com.abyssalfishing.features.SeaCreatureRegistry;
 import com.abyssalfishing.gui.AbyssalFishingGUI;
+import com.abyssalfishing.utils.CallProfiler;
 import com.abyssalfishing.utils.RenderUtils;
 import com.abyssalfishing.utils.HypixelUtils;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientEntityEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.KeyBinding;
@@ -29,6 +40,7 @@ public class AbyssalFishing implements ClientModInitializer {
     public static KeyBinding toggleFishingKey;
     public static KeyBinding openConfigKey;
     public static KeyBinding toggleDebugKey;
+    public static KeyBinding dumpLatencyKey;
     
     // Track previous key states to detect presses
     private static boolean prevToggleState = false;
@@ -42,8 +54,15 @@ public class AbyssalFishing implements ClientModInitializer {
         // Initialize configuration
         config = new AbyssalConfig();
         config.load();
+        config.watch();
         LOGGER.info("Config loaded");
         
+        // Start flushing the binary trace of hot-path events to logs/
+        TraceLog.start();
+        
+        // Load the sea creature registry and watch it for edits
+        SeaCreatureRegistry.initialize();
+        
         // Initialize core systems
         fishingManager = new FishingManager();
         
@@ -82,12 +101,27 @@ public class AbyssalFishing implements ClientModInitializer {
             GLFW.GLFW_KEY_L,
             "category.abyssalfishing.main"
         ));
+        
+        dumpLatencyKey = KeyBindingHelper.registerKeyBinding(new KeyBinding(
+            "key.abyssalfishing.dumpLatency",
+            InputUtil.Type.KEYSYM,
+            GLFW.GLFW_KEY_K,
+            "category.abyssalfishing.main"
+        ));
     }
     
     private void registerEvents() {
+        // Hand over bites flagged by the network thread before this tick's entity updates
+        ClientTickEvents.START_CLIENT_TICK.register(client -> {
+            if (client.player != null && client.world != null) {
+                fishingManager.onTickStart();
+            }
+        });
+        
         // Main tick event
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
             if (client.player == null) return;
+            CallProfiler.begin(CallProfiler.Section.TICK);
             
             // Handle key inputs (always available)
             if (toggleFishingKey.wasPressed()) {
@@ -110,24 +144,64 @@ public class AbyssalFishing implements ClientModInitializer {
                 LOGGER.info("Debug overlay toggled: " + config.showDebugOverlay);
             }
             
+            if (dumpLatencyKey.wasPressed()) {
+                // Written off the client thread; report back on it
+                fishingManager.getLatencyTracker().dump(file -> client.execute(() -> {
+                    if (file != null) {
+                        fishingManager.setHUDMessage("§6[AbyssalFishing] §fLatency written to " + file.getFileName(), config.hudMessageDuration);
+                    } else {
+                        fishingManager.setHUDMessage("§c[AbyssalFishing] §fFailed to write latency summary", config.hudMessageDuration);
+                    }
+                }));
+            }
+            
             // Update fishing systems (works everywhere now)
             if (client.world != null) {
+                NametagIndex.tick();
+                SeaCreatureIndex.tick();
+                fishingManager.getScheduler().pump();
                 fishingManager.update();
             }
+            CallProfiler.end(CallProfiler.Section.TICK);
         });
         
+        // Entity lifecycle - keep classification caches and the candidate index in sync with the world
+        // Nametags first so candidates are classified with their paired nametag
+        ClientEntityEvents.ENTITY_LOAD.register(NametagIndex::onEntityLoad);
+        ClientEntityEvents.ENTITY_LOAD.register(SeaCreatureIndex::onEntityLoad);
+        ClientEntityEvents.ENTITY_UNLOAD.register(NametagIndex::onEntityUnload);
+        ClientEntityEvents.ENTITY_UNLOAD.register(SeaCreatureIndex::onEntityUnload);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+            NametagIndex.clear();
+            SeaCreatureIndex.clear();
+            SeaCreatureClassifier.clear();
+        });
+        
+        // Config saves are written in the background; don't lose one queued just before quitting
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> ConfigSaver.flush());
+        
         // HUD rendering
         HudRenderCallback.EVENT.register((drawContext, delta) -> {
-            if (config.showHUD) {
+            // Each piece is profiled separately so its own cost shows in the debug overlay
+            ConfigSnapshot settings = config.snapshot();
+            if (settings.showHUD()) {
+                CallProfiler.begin(CallProfiler.Section.FISHING_HUD);
                 RenderUtils.renderFishingHUD(drawContext);
+                CallProfiler.end(CallProfiler.Section.FISHING_HUD);
             }
             // Always render action-bar style HUD messages (above hotbar)
+            CallProfiler.begin(CallProfiler.Section.ACTION_BAR);
             com.abyssalfishing.utils.ActionBarRenderer.render(drawContext);
+            CallProfiler.end(CallProfiler.Section.ACTION_BAR);
             // Render notifications
+            CallProfiler.begin(CallProfiler.Section.NOTIFICATIONS);
             com.abyssalfishing.gui.components.NotificationManager.getInstance().render(drawContext);
+            CallProfiler.end(CallProfiler.Section.NOTIFICATIONS);
             // Render debug overlay if enabled
-            if (config.showDebugOverlay) {
+            if (settings.showDebugOverlay()) {
+                CallProfiler.begin(CallProfiler.Section.DEBUG_OVERLAY);
                 com.abyssalfishing.utils.DebugOverlay.render(drawContext);
+                CallProfiler.end(CallProfiler.Section.DEBUG_OVERLAY);
             }
         });
     }
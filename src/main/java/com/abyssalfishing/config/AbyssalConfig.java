@@ -1,54 +1,95 @@
 package com.abyssalfishing.config;
 
 import com.abyssalfishing.AbyssalFishing;
+import com.abyssalfishing.processor.ConfigCodec;
+import com.abyssalfishing.processor.ConfigKey;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.KeyBinding;
 import net.minecraft.client.util.InputUtil;
-import net.minecraft.text.Text;
 import org.lwjgl.glfw.GLFW;
 
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.util.Properties;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
+/**
+ * Config values, declared once below. {@link ConfigSnapshot} and {@link AbyssalConfigCodec}
+ * are generated from the @ConfigKey fields at compile time
+ */
+@ConfigCodec(snapshot = "ConfigSnapshot")
 public class AbyssalConfig {
-    private final File configFile;
-    private final Properties properties;
+    public static final String FILE_NAME = "abyssalfishing.properties";
+    private static final Path FILE = Paths.get("config", FILE_NAME);
+    private static final String HEADER = "# AbyssalFishing Configuration\n";
+    
+    // Editable values below are for the GUI and key handlers; hot paths read the published snapshot
+    private volatile ConfigSnapshot snapshot;
     
     // Core fishing settings
+    @ConfigKey
     public boolean autoStart = true;
+    @ConfigKey
     public boolean playSounds = true;
+    @ConfigKey
     public boolean showHUD = true;
     
     // Timing settings
+    @ConfigKey(min = 0, max = 600000)
     public long baseWaitTime = 5000;
+    @ConfigKey(min = 1000, max = 600000)
     public long maxWaitTime = 20000;
+    @ConfigKey(min = 0, max = 5000)
     public long reactionTime = 150;
+    @ConfigKey(min = 0, max = 60000)
     public long baseCooldown = 2000;
+    // Delay after the bobber settles before bites are counted
+    @ConfigKey(min = 0, max = 10000)
+    public long detectionDelay = 1000;
     
     // Safety settings
+    @ConfigKey
     public boolean pauseOnMovement = true;
+    @ConfigKey
     public boolean pauseOnRotation = true;
+    @ConfigKey(min = 1, max = 100)
     public int maxFailedAttempts = 5;
+    @ConfigKey(min = 0, max = 5)
     public float humanizationFactor = 1.0f;
+    @ConfigKey(min = 0, max = 1024)
     public int emergencyHealthThreshold = 10;
     
     
     // Sea creature killing
+    @ConfigKey
     public boolean killSeaCreatures = true;
+    @ConfigKey
     public boolean killSquid = false;
+    @ConfigKey
     public boolean useMageWeapons = true;
+    @ConfigKey
     public boolean useMeleeWeapons = true;
     
+    // Target selection weights (lower score wins; defaults pick the nearest creature)
+    @ConfigKey(min = 0, max = 1000)
+    public float targetDistanceWeight = 1.0f;
+    @ConfigKey(min = -1000, max = 1000)
+    public float targetHealthWeight = 0.0f;
+    @ConfigKey(min = -1000, max = 1000)
+    public float targetPriorityWeight = 0.0f;
+    
     // AFK prevention
+    @ConfigKey
     public boolean preventAFK = true;
     
     // HUD message duration (ms)
+    @ConfigKey(min = 0, max = 60000)
     public long hudMessageDuration = 7000;
     
     // Debug overlay
+    @ConfigKey
     public boolean showDebugOverlay = false;
     public KeyBinding guiKey = new KeyBinding(
         "key.abyssalfishing.gui",
@@ -58,121 +99,84 @@ public class AbyssalConfig {
     );
     
     public AbyssalConfig() {
-        this.configFile = new File("config/abyssalfishing.properties");
-        this.properties = new Properties();
-        load();
+        // Defaults until load() runs
+        publish();
+    }
+    
+    /**
+     * Snapshot hot paths read. Replaced wholesale on save and on file reload, never mutated
+     */
+    public ConfigSnapshot snapshot() {
+        return snapshot;
     }
     
     public void load() {
-        try {
-            if (configFile.exists()) {
-                FileReader reader = new FileReader(configFile);
-                properties.load(reader);
-                reader.close();
-                
-                autoStart = getBoolean("autoStart", autoStart);
-                playSounds = getBoolean("playSounds", playSounds);
-                showHUD = getBoolean("showHUD", showHUD);
-                
-                baseWaitTime = getLong("baseWaitTime", baseWaitTime);
-                maxWaitTime = getLong("maxWaitTime", maxWaitTime);
-                reactionTime = getLong("reactionTime", reactionTime);
-                baseCooldown = getLong("baseCooldown", baseCooldown);
-                
-                pauseOnMovement = getBoolean("pauseOnMovement", pauseOnMovement);
-                pauseOnRotation = getBoolean("pauseOnRotation", pauseOnRotation);
-                maxFailedAttempts = getInt("maxFailedAttempts", maxFailedAttempts);
-                humanizationFactor = getFloat("humanizationFactor", humanizationFactor);
-                emergencyHealthThreshold = getInt("emergencyHealthThreshold", emergencyHealthThreshold);
-                
-                
-                killSeaCreatures = getBoolean("killSeaCreatures", killSeaCreatures);
-                killSquid = getBoolean("killSquid", killSquid);
-                useMageWeapons = getBoolean("useMageWeapons", useMageWeapons);
-                useMeleeWeapons = getBoolean("useMeleeWeapons", useMeleeWeapons);
-                
-                preventAFK = getBoolean("preventAFK", preventAFK);
-                hudMessageDuration = getLong("hudMessageDuration", hudMessageDuration);
-                showDebugOverlay = getBoolean("showDebugOverlay", showDebugOverlay);
-                
-                AbyssalFishing.LOGGER.info("Configuration loaded successfully");
-            }
-        } catch (IOException e) {
-            AbyssalFishing.LOGGER.error("Failed to load configuration", e);
+        ConfigSnapshot loaded = readFile(snapshot);
+        if (loaded != null) {
+            AbyssalConfigCodec.apply(loaded, this);
+            AbyssalFishing.LOGGER.info("Configuration loaded successfully");
         }
+        publish();
+    }
+    
+    /**
+     * Reloads the config whenever the file changes on disk
+     */
+    public void watch() {
+        ConfigWatcher.watch(FILE_NAME, this::reloadFromDisk);
     }
     
+    /**
+     * Publishes the current field values and hands them to {@link ConfigSaver}; the file is
+     * written off the client thread shortly after
+     */
     public void save() {
-        try {
-            configFile.getParentFile().mkdirs();
-            
-            properties.setProperty("autoStart", String.valueOf(autoStart));
-            properties.setProperty("playSounds", String.valueOf(playSounds));
-            properties.setProperty("showHUD", String.valueOf(showHUD));
-            
-            properties.setProperty("baseWaitTime", String.valueOf(baseWaitTime));
-            properties.setProperty("maxWaitTime", String.valueOf(maxWaitTime));
-            properties.setProperty("reactionTime", String.valueOf(reactionTime));
-            properties.setProperty("baseCooldown", String.valueOf(baseCooldown));
-            
-            properties.setProperty("pauseOnMovement", String.valueOf(pauseOnMovement));
-            properties.setProperty("pauseOnRotation", String.valueOf(pauseOnRotation));
-            properties.setProperty("maxFailedAttempts", String.valueOf(maxFailedAttempts));
-            properties.setProperty("humanizationFactor", String.valueOf(humanizationFactor));
-            properties.setProperty("emergencyHealthThreshold", String.valueOf(emergencyHealthThreshold));
-            
-            
-            properties.setProperty("killSeaCreatures", String.valueOf(killSeaCreatures));
-            properties.setProperty("killSquid", String.valueOf(killSquid));
-            properties.setProperty("useMageWeapons", String.valueOf(useMageWeapons));
-            properties.setProperty("useMeleeWeapons", String.valueOf(useMeleeWeapons));
-            
-            properties.setProperty("preventAFK", String.valueOf(preventAFK));
-            properties.setProperty("hudMessageDuration", String.valueOf(hudMessageDuration));
-            properties.setProperty("showDebugOverlay", String.valueOf(showDebugOverlay));
-            
-            FileWriter writer = new FileWriter(configFile);
-            properties.store(writer, "AbyssalFishing Configuration");
-            writer.close();
-            
-            AbyssalFishing.LOGGER.info("Configuration saved successfully");
-        } catch (IOException e) {
-            AbyssalFishing.LOGGER.error("Failed to save configuration", e);
-        }
+        publish();
+        StringBuilder content = new StringBuilder(HEADER);
+        AbyssalConfigCodec.write(snapshot, content);
+        ConfigSaver.submit(FILE, content.toString());
     }
     
-    private boolean getBoolean(String key, boolean defaultValue) {
-        String value = properties.getProperty(key);
-        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    /**
+     * Drops unsaved edits to the fields, restoring the published values
+     */
+    public void revert() {
+        AbyssalConfigCodec.apply(snapshot, this);
     }
     
-    private int getInt(String key, int defaultValue) {
-        String value = properties.getProperty(key);
-        try {
-            return value != null ? Integer.parseInt(value) : defaultValue;
-        } catch (NumberFormatException e) {
-            return defaultValue;
-        }
+    // Out-of-range edits are clamped and written back, so the GUI shows what is in effect
+    private void publish() {
+        ConfigSnapshot values = AbyssalConfigCodec.sanitize(AbyssalConfigCodec.snapshot(this), AbyssalConfig::warn);
+        AbyssalConfigCodec.apply(values, this);
+        snapshot = values;
     }
     
-    private long getLong(String key, long defaultValue) {
-        String value = properties.getProperty(key);
-        try {
-            return value != null ? Long.parseLong(value) : defaultValue;
-        } catch (NumberFormatException e) {
-            return defaultValue;
-        }
+    // Runs on the config watcher thread: parse and publish here, sync the editable fields on the client thread
+    private void reloadFromDisk() {
+        ConfigSnapshot current = snapshot;
+        ConfigSnapshot parsed = readFile(current);
+        if (parsed == null || parsed.equals(current)) return; // Nothing changed, e.g. our own save
+        
+        snapshot = parsed;
+        AbyssalFishing.LOGGER.info("Configuration reloaded from " + FILE);
+        MinecraftClient.getInstance().execute(() -> AbyssalConfigCodec.apply(parsed, this));
     }
     
-    private float getFloat(String key, float defaultValue) {
-        String value = properties.getProperty(key);
-        try {
-            return value != null ? Float.parseFloat(value) : defaultValue;
-        } catch (NumberFormatException e) {
-            return defaultValue;
+    // Missing keys keep the value from {@code defaults}
+    private static ConfigSnapshot readFile(ConfigSnapshot defaults) {
+        if (!Files.exists(FILE)) return null;
+        try (BufferedReader reader = Files.newBufferedReader(FILE, StandardCharsets.UTF_8)) {
+            return AbyssalConfigCodec.read(reader, defaults, AbyssalConfig::warn);
+        } catch (IOException e) {
+            AbyssalFishing.LOGGER.error("Failed to load configuration", e);
+            return null;
         }
     }
     
+    private static void warn(String message) {
+        AbyssalFishing.LOGGER.warn("Config: " + message);
+    }
+    
     public KeyBinding getGUIKey() {
         return guiKey;
     }
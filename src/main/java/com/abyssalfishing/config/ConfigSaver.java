@@ -0,0 +1,105 @@
+package com.abyssalfishing.config;
+
+import com.abyssalfishing.AbyssalFishing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes config files off the client thread. Saves requested within the debounce
+ * window are coalesced (the newest content per file wins) and written by a virtual
+ * thread to a temp file that is synced and then atomically moved over the old file,
+ * so a crash mid-save leaves either the old or the new config, never a truncated one
+ */
+public class ConfigSaver {
+    private static final long DEBOUNCE_MS = 250;
+
+    private static final Map<Path, String> PENDING = new ConcurrentHashMap<>();
+    private static final AtomicBoolean SCHEDULED = new AtomicBoolean();
+    // Serializes writes, so a newer snapshot is never overwritten by an older one
+    private static final Object WRITE_LOCK = new Object();
+
+    /**
+     * Queues {@code content} to be written to {@code file}
+     */
+    public static void submit(Path file, String content) {
+        PENDING.put(file, content);
+        if (SCHEDULED.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("AbyssalFishing Config Save").start(ConfigSaver::drainAfterDebounce);
+        }
+    }
+
+    /**
+     * Writes everything still queued right away, on the calling thread (used on shutdown)
+     */
+    public static void flush() {
+        synchronized (WRITE_LOCK) {
+            writePending();
+        }
+    }
+
+    private static void drainAfterDebounce() {
+        try {
+            Thread.sleep(DEBOUNCE_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (WRITE_LOCK) {
+            // Saves submitted from here on schedule a new drain
+            SCHEDULED.set(false);
+            writePending();
+        }
+    }
+
+    private static void writePending() {
+        for (Path file : PENDING.keySet()) {
+            String content = PENDING.remove(file);
+            if (content != null) {
+                write(file, content);
+            }
+        }
+    }
+
+    private static void write(Path file, String content) {
+        Path temp = null;
+        try {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temp = null;
+            AbyssalFishing.LOGGER.info("Saved " + file);
+        } catch (IOException e) {
+            AbyssalFishing.LOGGER.error("Failed to save " + file, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.abyssalfishing.config;
+
+import com.abyssalfishing.AbyssalFishing;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Watches the config directory on one background daemon thread and runs the
+ * listener registered for a file name when that file is created or modified.
+ * Listeners run on the watcher thread, never on the client thread
+ */
+public class ConfigWatcher {
+    private static final Path CONFIG_DIR = Paths.get("config");
+    // Editors and atomic saves touch a file several times - let it settle before reloading
+    private static final long SETTLE_MS = 100;
+
+    private static final Map<String, Runnable> LISTENERS = new ConcurrentHashMap<>();
+    private static Thread thread;
+
+    /**
+     * Runs {@code onChange} whenever config/{@code fileName} changes. Starts the watcher on first use
+     */
+    public static synchronized void watch(String fileName, Runnable onChange) {
+        LISTENERS.put(fileName, onChange);
+        if (thread == null) {
+            thread = new Thread(ConfigWatcher::run, "AbyssalFishing Config Watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private static void run() {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            Files.createDirectories(CONFIG_DIR);
+            CONFIG_DIR.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            AbyssalFishing.LOGGER.info("Watching " + CONFIG_DIR.toAbsolutePath() + " for changes");
+
+            Set<String> changed = new HashSet<>();
+            while (true) {
+                WatchKey key = watchService.take();
+                Thread.sleep(SETTLE_MS);
+
+                changed.clear();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Events were lost - reload everything
+                        changed.addAll(LISTENERS.keySet());
+                    } else {
+                        changed.add(((Path) event.context()).getFileName().toString());
+                    }
+                }
+                if (!key.reset()) {
+                    AbyssalFishing.LOGGER.warn("Config directory is no longer accessible, stopping config watcher");
+                    return;
+                }
+
+                for (String fileName : changed) {
+                    Runnable listener = LISTENERS.get(fileName);
+                    if (listener == null) continue;
+                    try {
+                        listener.run();
+                    } catch (RuntimeException e) {
+                        AbyssalFishing.LOGGER.error("Failed to reload " + fileName, e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            AbyssalFishing.LOGGER.error("Failed to start config watcher", e);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.abyssalfishing.core;
+
+import com.abyssalfishing.AbyssalFishing;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Runs one-shot and periodic actions on the client thread without ever blocking it.
+ * Backed by a hierarchical timing wheel (4 levels of 64 slots, 1ms resolution, ~4.6h horizon),
+ * so schedule and cancel are O(1) and a pump only touches slots that hold due work.
+ * Pumped once per client tick and once per rendered frame, so short delays (a few ms)
+ * fire on the next frame instead of the next tick
+ */
+public class ActionScheduler {
+    // Handle value meaning "nothing scheduled"
+    public static final long NONE = 0L;
+
+    /**
+     * Monotonic time source; replaceable so timing can be driven deterministically
+     */
+    @FunctionalInterface
+    public interface Clock {
+        Clock SYSTEM = System::nanoTime;
+
+        long nanoTime();
+    }
+
+    private static final long TICK_NANOS = 1_000_000L; // Wheel resolution: 1ms
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long HORIZON = 1L << (SLOT_BITS * LEVELS); // Ticks covered by the whole wheel
+
+    private static final class Task {
+        final long id;
+        final Runnable action;
+        final long period; // Ticks between runs, 0 for one-shot
+        long expiry; // Wheel tick the task is due at
+        boolean cancelled;
+        // Intrusive bucket list; level -1 when not linked into a bucket
+        Task prev;
+        Task next;
+        int level = -1;
+        int slot;
+
+        Task(long id, Runnable action, long period, long expiry) {
+            this.id = id;
+            this.action = action;
+            this.period = period;
+            this.expiry = expiry;
+        }
+    }
+
+    private final Clock clock;
+    private final long startNanos;
+    private final Task[][] buckets = new Task[LEVELS][SLOTS];
+    // Bit per slot, set while the slot's bucket is non-empty
+    private final long[] occupied = new long[LEVELS];
+    private final Long2ObjectOpenHashMap<Task> pending = new Long2ObjectOpenHashMap<>();
+    private long currentTick;
+    private long pumpTarget; // Tick the current (or last) pump advances to
+    private long nextId = 1;
+
+    public ActionScheduler() {
+        this(Clock.SYSTEM);
+    }
+
+    public ActionScheduler(Clock clock) {
+        this.clock = clock;
+        this.startNanos = clock.nanoTime();
+    }
+
+    /**
+     * Runs {@code action} once after {@code delayMs}. Returns a handle for {@link #cancel(long)}
+     */
+    public long schedule(long delayMs, Runnable action) {
+        return add(action, delayMs, 0L);
+    }
+
+    /**
+     * Runs {@code action} every {@code periodMs}, first after one period, until cancelled
+     */
+    public long schedulePeriodic(long periodMs, Runnable action) {
+        long period = Math.max(1L, periodMs);
+        return add(action, period, period);
+    }
+
+    /**
+     * Cancels a scheduled action in O(1); no-op for NONE or one-shots that already ran
+     */
+    public void cancel(long handle) {
+        if (handle == NONE) return;
+        Task task = pending.remove(handle);
+        if (task != null) {
+            task.cancelled = true;
+            unlink(task);
+        }
+    }
+
+    public boolean isPending(long handle) {
+        return pending.containsKey(handle);
+    }
+
+    public void cancelAll() {
+        for (int level = 0; level < LEVELS; level++) {
+            java.util.Arrays.fill(buckets[level], null);
+            occupied[level] = 0L;
+        }
+        for (Task task : pending.values()) {
+            task.cancelled = true;
+        }
+        pending.clear();
+    }
+
+    /**
+     * Advances the wheel to the clock's current time and runs every due action.
+     * Empty stretches of the lowest level are skipped using its occupancy bits.
+     * Actions scheduled while pumping are due one tick later at the earliest, so an
+     * action that reschedules itself cannot spin
+     */
+    public void pump() {
+        long target = nowTick();
+        pumpTarget = target;
+        while (currentTick < target) {
+            long boundary = (currentTick | SLOT_MASK) + 1;
+            long windowEnd = Math.min(target, boundary - 1);
+            if (currentTick < windowEnd) {
+                // Next occupied slot before the boundary, if any
+                int from = (int) ((currentTick + 1) & SLOT_MASK);
+                int to = (int) (windowEnd & SLOT_MASK);
+                long bits = occupied[0] & (-1L << from) & (-1L >>> (SLOT_MASK - to));
+                if (bits != 0) {
+                    currentTick = (currentTick & ~(long) SLOT_MASK) | Long.numberOfTrailingZeros(bits);
+                    runSlot((int) (currentTick & SLOT_MASK));
+                    continue;
+                }
+                currentTick = windowEnd;
+                if (currentTick == target) break;
+            }
+
+            // Step onto the boundary: pull due work down from the higher levels, then run it
+            currentTick = boundary;
+            cascade(boundary);
+            runSlot((int) (boundary & SLOT_MASK));
+        }
+    }
+
+    public int size() {
+        return pending.size();
+    }
+
+    private long nowTick() {
+        return (clock.nanoTime() - startNanos) / TICK_NANOS;
+    }
+
+    private long add(Runnable action, long delayMs, long period) {
+        long id = nextId++;
+        // Due no earlier than the next wheel tick (the current one has already run)
+        long expiry = Math.max(nowTick() + Math.max(0L, delayMs), currentTick + 1);
+        Task task = new Task(id, action, period, expiry);
+        pending.put(id, task);
+        insert(task);
+        return id;
+    }
+
+    private void insert(Task task) {
+        long delta = task.expiry - currentTick;
+        long slotTick = task.expiry;
+        int level = 0;
+        if (delta >= HORIZON) {
+            // Park at the far edge; it is re-inserted closer once that slot cascades
+            level = LEVELS - 1;
+            slotTick = currentTick + HORIZON - 1;
+        } else {
+            while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+                level++;
+            }
+        }
+        int slot = (int) ((slotTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        Task head = buckets[level][slot];
+        task.prev = null;
+        task.next = head;
+        if (head != null) {
+            head.prev = task;
+        }
+        buckets[level][slot] = task;
+        occupied[level] |= 1L << slot;
+        task.level = level;
+        task.slot = slot;
+    }
+
+    private void unlink(Task task) {
+        if (task.level < 0) return;
+        if (task.prev != null) {
+            task.prev.next = task.next;
+        } else {
+            buckets[task.level][task.slot] = task.next;
+            if (task.next == null) {
+                occupied[task.level] &= ~(1L << task.slot);
+            }
+        }
+        if (task.next != null) {
+            task.next.prev = task.prev;
+        }
+        task.prev = null;
+        task.next = null;
+        task.level = -1;
+    }
+
+    private Task detach(int level, int slot) {
+        Task head = buckets[level][slot];
+        buckets[level][slot] = null;
+        occupied[level] &= ~(1L << slot);
+        for (Task task = head; task != null; task = task.next) {
+            task.level = -1;
+        }
+        return head;
+    }
+
+    private void cascade(long tick) {
+        // Highest level first, so tasks it hands down are cascaded again at this tick if due
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            int shift = SLOT_BITS * level;
+            if ((tick & ((1L << shift) - 1)) != 0) continue;
+            int slot = (int) ((tick >>> shift) & SLOT_MASK);
+            if ((occupied[level] & (1L << slot)) == 0) continue;
+
+            Task task = detach(level, slot);
+            while (task != null) {
+                Task next = task.next;
+                task.prev = null;
+                task.next = null;
+                if (!task.cancelled) {
+                    insert(task);
+                }
+                task = next;
+            }
+        }
+    }
+
+    private void runSlot(int slot) {
+        if ((occupied[0] & (1L << slot)) == 0) return;
+
+        Task task = detach(0, slot);
+        while (task != null) {
+            Task next = task.next;
+            task.prev = null;
+            task.next = null;
+            if (!task.cancelled) {
+                run(task);
+            }
+            task = next;
+        }
+    }
+
+    private void run(Task task) {
+        if (task.period == 0) {
+            pending.remove(task.id);
+        }
+        try {
+            task.action.run();
+        } catch (RuntimeException e) {
+            AbyssalFishing.LOGGER.error("Scheduled action failed", e);
+        }
+        if (task.period != 0 && !task.cancelled) {
+            // Fixed rate, but a late pump runs each periodic task at most once
+            task.expiry = Math.max(task.expiry + task.period, pumpTarget + 1);
+            insert(task);
+        }
+    }
+}
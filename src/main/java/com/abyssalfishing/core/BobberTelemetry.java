@@ -0,0 +1,120 @@
+package com.abyssalfishing.core;
+
+/**
+ * Fixed-size ring buffer of samples for the active fishing bobber.
+ * Keeps running mean, variance and minimum of Y over a sliding window
+ * so settle and bite checks are O(1) per tick and allocate nothing
+ */
+public class BobberTelemetry {
+    // Window length in bobber ticks (power of two, ~0.8s at 20 TPS)
+    public static final int WINDOW = 16;
+    private static final int MASK = WINDOW - 1;
+
+    private final double[] y = new double[WINDOW];
+    private final double[] dy = new double[WINDOW];
+    private final double[] velocitySq = new double[WINDOW];
+    private final long[] timestamps = new long[WINDOW];
+
+    // Monotonic queue of sample sequence numbers (increasing Y) for the windowed minimum
+    private final long[] minQueue = new long[WINDOW];
+    private int minHead;
+    private int minSize;
+
+    private long count;
+    private double sumY;
+    private double sumYSq;
+
+    public void push(double sampleY, double velocityX, double velocityY, double velocityZ, long time) {
+        int slot = (int) (count & MASK);
+        double sampleDy = count > 0 ? sampleY - y[(int) ((count - 1) & MASK)] : 0.0;
+        double sampleVelocitySq = velocityX * velocityX + velocityY * velocityY + velocityZ * velocityZ;
+
+        // Evict the sample this slot held before overwriting it
+        if (count >= WINDOW) {
+            sumY -= y[slot];
+            sumYSq -= y[slot] * y[slot];
+        }
+
+        y[slot] = sampleY;
+        dy[slot] = sampleDy;
+        velocitySq[slot] = sampleVelocitySq;
+        timestamps[slot] = time;
+        sumY += sampleY;
+        sumYSq += sampleY * sampleY;
+
+        // Windowed minimum: drop the front once it leaves the window, then every larger Y at the back
+        long oldest = count - WINDOW + 1;
+        if (minSize > 0 && minQueue[minHead] < oldest) {
+            minHead = (minHead + 1) & MASK;
+            minSize--;
+        }
+        while (minSize > 0 && y[(int) (minQueue[(minHead + minSize - 1) & MASK] & MASK)] >= sampleY) {
+            minSize--;
+        }
+        minQueue[(minHead + minSize) & MASK] = count;
+        minSize++;
+
+        count++;
+    }
+
+    public void reset() {
+        count = 0;
+        sumY = 0;
+        sumYSq = 0;
+        minHead = 0;
+        minSize = 0;
+    }
+
+    public boolean isFull() {
+        return count >= WINDOW;
+    }
+
+    public int size() {
+        return (int) Math.min(count, WINDOW);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public double getLatestY() {
+        return count > 0 ? y[(int) ((count - 1) & MASK)] : 0.0;
+    }
+
+    public double getLatestDy() {
+        return count > 0 ? dy[(int) ((count - 1) & MASK)] : 0.0;
+    }
+
+    public double getLatestVelocitySq() {
+        return count > 0 ? velocitySq[(int) ((count - 1) & MASK)] : 0.0;
+    }
+
+    public long getLatestTime() {
+        return count > 0 ? timestamps[(int) ((count - 1) & MASK)] : 0L;
+    }
+
+    public double getMeanY() {
+        int n = size();
+        return n > 0 ? sumY / n : 0.0;
+    }
+
+    public double getVarianceY() {
+        int n = size();
+        if (n < 2) return 0.0;
+        double mean = sumY / n;
+        // Clamp rounding noise from the running sums
+        return Math.max(0.0, sumYSq / n - mean * mean);
+    }
+
+    public double getMinY() {
+        return minSize > 0 ? y[(int) (minQueue[minHead] & MASK)] : 0.0;
+    }
+
+    /**
+     * Time covered by the samples in the window, oldest to latest
+     */
+    public long getWindowSpan() {
+        if (count == 0) return 0L;
+        return timestamps[(int) ((count - 1) & MASK)] - timestamps[(int) ((count - size()) & MASK)];
+    }
+}
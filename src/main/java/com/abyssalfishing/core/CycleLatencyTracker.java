@@ -0,0 +1,166 @@
+package com.abyssalfishing.core;
+
+import com.abyssalfishing.AbyssalFishing;
+import com.abyssalfishing.utils.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+/**
+ * End-to-end latency of every fishing cycle, split where the time can go:
+ * the server (cast to hook, reel to removal), bobber physics (hook to settle)
+ * and our own reaction (bite to reel). Marks are System.nanoTime() values,
+ * durations are recorded in microseconds
+ */
+public class CycleLatencyTracker {
+    private static final Path DUMP_DIR = Paths.get("logs");
+    private static final DateTimeFormatter DUMP_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public enum Stage {
+        CAST_TO_HOOK("cast->hook"),
+        HOOK_TO_SETTLE("hook->settle"),
+        BITE_TO_REEL("bite->reel"),
+        REEL_TO_REMOVAL("reel->removal");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final Histogram[] histograms = new Histogram[STAGES.length];
+    // Marks for the cycle in progress, 0 when not reached yet
+    private long castNanos;
+    private long hookNanos;
+    private long biteNanos;
+    private long reelNanos;
+
+    public CycleLatencyTracker() {
+        for (int i = 0; i < STAGES.length; i++) {
+            histograms[i] = new Histogram();
+        }
+    }
+
+    public void onCast() {
+        castNanos = System.nanoTime();
+        hookNanos = 0;
+        biteNanos = 0;
+        reelNanos = 0;
+    }
+
+    /**
+     * First tick of the bobber entity spawned by the current cast
+     */
+    public void onHookAppeared() {
+        if (castNanos == 0 || hookNanos != 0) return;
+        hookNanos = System.nanoTime();
+        record(Stage.CAST_TO_HOOK, hookNanos - castNanos);
+    }
+
+    public void onHookSettled() {
+        if (hookNanos == 0) return;
+        record(Stage.HOOK_TO_SETTLE, System.nanoTime() - hookNanos);
+    }
+
+    /**
+     * Bite detected at {@code detectedNanos}; only the first detection of a cast counts
+     */
+    public void onBite(long detectedNanos) {
+        if (biteNanos == 0) {
+            biteNanos = detectedNanos;
+        }
+    }
+
+    /**
+     * Drops the bite mark: the bite was ignored, or the reel that follows is not a reaction to it
+     */
+    public void clearBite() {
+        biteNanos = 0;
+    }
+
+    public void onReel() {
+        reelNanos = System.nanoTime();
+        if (biteNanos != 0) {
+            record(Stage.BITE_TO_REEL, reelNanos - biteNanos);
+        }
+    }
+
+    public void onHookRemoved() {
+        if (reelNanos == 0) return;
+        record(Stage.REEL_TO_REMOVAL, System.nanoTime() - reelNanos);
+        reelNanos = 0;
+    }
+
+    /**
+     * Recorded latencies for {@code stage}, in microseconds
+     */
+    public Histogram getHistogram(Stage stage) {
+        return histograms[stage.ordinal()];
+    }
+
+    public boolean isEmpty() {
+        for (Histogram histogram : histograms) {
+            if (histogram.getCount() > 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Snapshots a percentile summary of every stage and writes it to logs/ on a background
+     * thread. {@code done} runs on that thread with the file, or null if writing failed
+     */
+    public void dump(Consumer<Path> done) {
+        StringBuilder out = new StringBuilder();
+        out.append("AbyssalFishing cycle latency, ").append(LocalDateTime.now()).append('\n');
+        out.append(String.format("%-14s %7s %10s %10s %10s %10s %10s%n", "stage", "count", "p50 ms", "p90 ms", "p99 ms", "max ms", "mean ms"));
+        for (Stage stage : STAGES) {
+            Histogram histogram = getHistogram(stage);
+            out.append(String.format("%-14s %7d %10.1f %10.1f %10.1f %10.1f %10.1f%n", stage.getLabel(), histogram.getCount(),
+                histogram.percentile(0.5) / 1000.0, histogram.percentile(0.9) / 1000.0, histogram.percentile(0.99) / 1000.0,
+                histogram.getMax() / 1000.0, histogram.getMean() / 1000.0));
+        }
+
+        Path file = DUMP_DIR.resolve("abyssalfishing-latency-" + LocalDateTime.now().format(DUMP_TIME) + ".txt");
+        String summary = out.toString();
+        Thread.ofVirtual().name("AbyssalFishing Latency Dump").start(() -> done.accept(write(file, summary)));
+    }
+
+    private static Path write(Path file, String summary) {
+        try {
+            Files.createDirectories(DUMP_DIR);
+            Files.writeString(file, summary, StandardCharsets.UTF_8);
+            AbyssalFishing.LOGGER.info("Wrote cycle latency summary to " + file);
+            return file;
+        } catch (IOException e) {
+            AbyssalFishing.LOGGER.error("Failed to write cycle latency summary", e);
+            return null;
+        }
+    }
+
+    public void reset() {
+        for (Histogram histogram : histograms) {
+            histogram.reset();
+        }
+        castNanos = 0;
+        hookNanos = 0;
+        biteNanos = 0;
+        reelNanos = 0;
+    }
+
+    private void record(Stage stage, long nanos) {
+        histograms[stage.ordinal()].record(nanos / 1000L);
+    }
+}
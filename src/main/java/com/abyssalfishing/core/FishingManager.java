@@ -2,11 +2,17 @@ package com.abyssalfishing.core;
 
 import com.abyssalfishing.AbyssalFishing;
 import com.abyssalfishing.config.AbyssalConfig;
+import com.abyssalfishing.config.ConfigSnapshot;
 import com.abyssalfishing.utils.HypixelUtils;
 import com.abyssalfishing.utils.SoundUtils;
 import com.abyssalfishing.utils.PlayerUtils;
+import com.abyssalfishing.features.SeaCreatureIndex;
+import com.abyssalfishing.features.TargetSelector;
 import com.abyssalfishing.features.SeaCreatureKiller;
 import com.abyssalfishing.features.MouseMovement;
+import com.abyssalfishing.jfr.BiteCheckEvent;
+import com.abyssalfishing.jfr.CreatureScanEvent;
+import com.abyssalfishing.jfr.FishingEvents;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.projectile.FishingBobberEntity;
@@ -14,27 +20,34 @@ import net.minecraft.item.FishingRodItem;
 import net.minecraft.item.ItemStack;
 import net.minecraft.sound.SoundEvent;
 import net.minecraft.util.Hand;
+import net.minecraft.util.TypeFilter;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
 import net.minecraft.world.World;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import net.minecraft.text.Text;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
 
 public class FishingManager {
     private static final Logger LOGGER = LoggerFactory.getLogger("AbyssalFishing");
     private final MinecraftClient client;
     private final AbyssalConfig config;
+    // One consistent set of config values per tick, taken from the published snapshot
+    private ConfigSnapshot settings;
     private final Random random;
     private final SeaCreatureKiller seaCreatureKiller;
     private final MouseMovement mouseMovement;
+    private final ActionScheduler scheduler;
+    private final FishingStateMachine stateMachine;
     
     // Fishing state
     private boolean active;
-    private FishingState currentState;
     private FishingBobberEntity fishingBobber;
     private long lastCastTime;
     private long lastCatchTime;
@@ -43,44 +56,53 @@ public class FishingManager {
     private int failedAttempts;
     
     // Anti-detection
-    private long nextActionDelay;
     private float humanizationFactor;
+    // Delayed step of the state machine (reaction, pause, cooldown); state handlers wait while it is pending
+    private long pendingAction = ActionScheduler.NONE;
     
     // Humanization: Random breaks and variations
-    private long lastRandomBreak = 0;
     private static final long RANDOM_BREAK_INTERVAL_MIN = 300000; // 5 minutes
     private static final long RANDOM_BREAK_INTERVAL_MAX = 900000; // 15 minutes
-    private long nextRandomBreak = 0;
     private boolean inRandomBreak = false;
-    private long randomBreakEndTime = 0;
+    private long randomBreakTask = ActionScheduler.NONE; // Next break start, or the end of the current one
     private static final long RANDOM_BREAK_DURATION_MIN = 2000; // 2 seconds
     private static final long RANDOM_BREAK_DURATION_MAX = 8000; // 8 seconds
     
     // Bobber settling detection
     private boolean bobberSettled;
-    private long bobberSettleStartTime;
     private long bobberSettledTime = 0; // Time when bobber finished settling
-    // settle threshold (lengthSquared) and duration (ms)
+    // settle threshold (lengthSquared) and Y spread over a full telemetry window (~0.8s)
     private static final double BOBBER_SETTLE_VELOCITY_THRESHOLD = 0.005; // relaxed threshold
-    private static final long BOBBER_SETTLE_DURATION_MS = 500; // longer settle time
-    private static final long DETECTION_DELAY_AFTER_SETTLE_MS = 1000; // Wait 1 second after settling before detecting
+    private static final double BOBBER_SETTLE_Y_DEVIATION = 0.03; // blocks, well under BITE_Y_DISPLACEMENT
     
-    // Bobber position tracking for detection
-    private double lastBobberY = 0;
+    // Bobber position tracking for detection (fed by onBobberTick)
+    private final BobberTelemetry bobberTelemetry = new BobberTelemetry();
+    private int telemetryBobberId = -1;
     private double settledBobberY = 0; // Y position after bobber settles
     private boolean settledYRecorded = false; // Whether we've recorded the settled Y position
-    private long lastPositionCheckTime = 0;
+
+    // Bite latched by onBobberTick/onTickStart, consumed by handleWaiting on the next client tick
+    private boolean biteLatched = false;
+    // Network-side bite detection for the local hook (netty thread posts, client thread drains)
+    private final PacketBiteDetector packetBiteDetector = new PacketBiteDetector();
+    // Per-cycle stage latencies (cast, hook, settle, bite, reel, removal)
+    private final CycleLatencyTracker latencyTracker = new CycleLatencyTracker();
 
     // Transient HUD message (action-bar style rendered above hotbar)
     private String hudMessage = null;
     private long hudMessageExpiry = 0L;
+    private int hudMessageVersion;
     // Bite detection thresholds
     private static final double BITE_VELOCITY_THRESHOLD = 0.001; // velocity squared threshold for bite
-    private static final double BITE_Y_DISPLACEMENT = 0.15; // bobber moves down 0.15 blocks when pulled    // Statistics
+    static final double BITE_Y_DISPLACEMENT = 0.15; // bobber moves down 0.15 blocks when pulled
+    private static final double BITE_SOUND_RADIUS_SQ = 2.0 * 2.0; // splash must play within 2 blocks of the bobber
+    // Statistics
     private int totalCatches;
     private int seaCreaturesCaught;
     private int failedCatches;
     private long sessionStartTime;
+    // Bumped whenever a counter above (or active) changes, so HUD text is only rebuilt then
+    private int statsVersion;
     private long lastSuccessfulCatch;
     private int maxConsecutiveCatches;
 
@@ -97,6 +119,7 @@ public class FishingManager {
         if (msg == null || durationMs <= 0) return;
         this.hudMessage = msg;
         this.hudMessageExpiry = System.currentTimeMillis() + durationMs;
+        hudMessageVersion++;
         AbyssalFishing.LOGGER.debug("HUD message set: " + msg + " for " + durationMs + "ms");
     }
 
@@ -105,6 +128,7 @@ public class FishingManager {
         if (System.currentTimeMillis() > hudMessageExpiry) {
             hudMessage = null;
             hudMessageExpiry = 0L;
+            hudMessageVersion++;
             return null;
         }
         return hudMessage;
@@ -113,103 +137,75 @@ public class FishingManager {
     public FishingManager() {
         this.client = MinecraftClient.getInstance();
         this.config = AbyssalFishing.config;
+        this.settings = config.snapshot();
         this.random = ThreadLocalRandom.current();
-        this.seaCreatureKiller = new SeaCreatureKiller();
+        this.scheduler = new ActionScheduler();
+        this.seaCreatureKiller = new SeaCreatureKiller(scheduler);
         this.mouseMovement = new MouseMovement();
         this.active = false;
-        this.currentState = FishingState.IDLE;
+        this.stateMachine = new FishingStateMachine()
+            .state(FishingState.IDLE, this::handleIdle, null, null, FishingState.CASTING)
+            .state(FishingState.CASTING, this::handleCasting, null, null, FishingState.WAITING)
+            .state(FishingState.WAITING, this::handleWaiting, this::onCastLanded, packetBiteDetector::disarm,
+                FishingState.CASTING, FishingState.REELING)
+            .state(FishingState.REELING, this::handleReeling, this::onReelStarted, this::onReelEnded,
+                FishingState.COOLDOWN, FishingState.KILLING_CREATURE)
+            .state(FishingState.COOLDOWN, this::handleCooldown, null, null, FishingState.CASTING)
+            .state(FishingState.KILLING_CREATURE, this::handleKillingCreature, null, null, FishingState.COOLDOWN);
         this.sessionStartTime = System.currentTimeMillis();
         this.lastCastTime = System.currentTimeMillis();
         this.lastCatchTime = System.currentTimeMillis();
-        this.nextActionDelay = System.currentTimeMillis();
         this.humanizationFactor = 1.0f;
-        
-        // Schedule first random break
-        scheduleNextRandomBreak();
     }
     
     private void scheduleNextRandomBreak() {
         long delay = RANDOM_BREAK_INTERVAL_MIN + 
             (long)(random.nextDouble() * (RANDOM_BREAK_INTERVAL_MAX - RANDOM_BREAK_INTERVAL_MIN));
-        nextRandomBreak = System.currentTimeMillis() + delay;
+        randomBreakTask = scheduler.schedule(delay, this::startRandomBreak);
     }
     
-    // Cache for performance optimization
-    private long lastBobberUpdate = 0;
-    private long lastEmergencyCheck = 0;
-    private long lastAFKUpdate = 0;
-    private static final long BOBBER_UPDATE_INTERVAL = 50; // Update bobber every 50ms instead of every tick
+    private void startRandomBreak() {
+        inRandomBreak = true;
+        long breakDuration = RANDOM_BREAK_DURATION_MIN + 
+            (long)(random.nextDouble() * (RANDOM_BREAK_DURATION_MAX - RANDOM_BREAK_DURATION_MIN));
+        randomBreakTask = scheduler.schedule(breakDuration, this::endRandomBreak);
+        LOGGER.debug("Taking random break for " + breakDuration + "ms");
+    }
+    
+    private void endRandomBreak() {
+        inRandomBreak = false;
+        scheduleNextRandomBreak();
+        LOGGER.debug("Random break ended, resuming fishing");
+    }
+    
+    // Periodic work, registered with the scheduler while fishing is active
     private static final long EMERGENCY_CHECK_INTERVAL = 500; // Check emergency conditions every 500ms
     private static final long AFK_UPDATE_INTERVAL = 100; // Update AFK prevention every 100ms
+    private long emergencyCheckTask = ActionScheduler.NONE;
+    private long afkUpdateTask = ActionScheduler.NONE;
+    
+    private void updateAFKPrevention() {
+        if (!settings.preventAFK() || inRandomBreak || client.player == null || client.world == null) return;
+        mouseMovement.update();
+    }
     
     public void update() {
+        settings = config.snapshot();
+        seaCreatureKiller.useSettings(settings);
         if (!active) return;
         if (client.player == null || client.world == null) return;
         
-        long currentTime = System.currentTimeMillis();
-        
-        // Handle random breaks (human-like behavior)
+        // Random breaks (human-like behavior) are started and ended by the scheduler
         if (inRandomBreak) {
-            if (currentTime >= randomBreakEndTime) {
-                inRandomBreak = false;
-                scheduleNextRandomBreak();
-                LOGGER.debug("Random break ended, resuming fishing");
-            } else {
-                return; // Still in break, don't do anything
-            }
-        } else if (currentTime >= nextRandomBreak) {
-            // Start random break
-            inRandomBreak = true;
-            long breakDuration = RANDOM_BREAK_DURATION_MIN + 
-                (long)(random.nextDouble() * (RANDOM_BREAK_DURATION_MAX - RANDOM_BREAK_DURATION_MIN));
-            randomBreakEndTime = currentTime + breakDuration;
-            LOGGER.debug("Taking random break for " + breakDuration + "ms");
-            return;
-        }
-        
-        // Prevent AFK detection (only every 100ms for performance)
-        if (config.preventAFK && currentTime - lastAFKUpdate > AFK_UPDATE_INTERVAL) {
-            mouseMovement.update();
-            lastAFKUpdate = currentTime;
+            return; // Still in break, don't do anything
         }
         
-        // Update fishing bobber reference (cached, not every tick)
-        if (currentTime - lastBobberUpdate > BOBBER_UPDATE_INTERVAL) {
-            updateFishingBobber();
-            lastBobberUpdate = currentTime;
-        }
+        // Refresh bobber reference (a plain field read; samples are pushed by MixinFishingHook)
+        updateFishingBobber();
 
-        // Main fishing logic
-        switch (currentState) {
-            case IDLE:
-                handleIdle();
-                break;
-                
-            case CASTING:
-                handleCasting();
-                break;
-                
-            case WAITING:
-                handleWaiting();
-                break;
-                
-            case REELING:
-                handleReeling();
-                break;
-                
-            case COOLDOWN:
-                handleCooldown();
-                break;
-                
-            case KILLING_CREATURE:
-                handleKillingCreature();
-                break;
-        }
-        
-        // Check for emergency conditions (only every 500ms for performance)
-        if (currentTime - lastEmergencyCheck > EMERGENCY_CHECK_INTERVAL) {
-            checkEmergencyConditions();
-            lastEmergencyCheck = currentTime;
+        // Main fishing logic (on hold while a delayed step is scheduled)
+        if (pendingAction == ActionScheduler.NONE) {
+            stateMachine.tick();
         }
     }
     
@@ -240,51 +236,40 @@ public class FishingManager {
         if (!isPlayerOverWater()) {
             LOGGER.debug("Player not over water, waiting...");
             // Wait a bit and try again
-            nextActionDelay = System.currentTimeMillis() + 500;
-            return;
-        }
-        
-        // Apply humanized delay
-        if (System.currentTimeMillis() < nextActionDelay) {
+            pauseFor(500);
             return;
         }
         
         // Cast the fishing rod
         if (castFishingRod()) {
-            lastCastTime = System.currentTimeMillis();
-            bobberSpawnTimeout = System.currentTimeMillis() + BOBBER_SPAWN_TIMEOUT_MS; // Set timeout
-
-            // Reset bobber settling state - a new bobber will appear and initially move
-            bobberSettled = false;
-            bobberSettleStartTime = 0L;
-            bobberSettledTime = 0;
-            settledYRecorded = false;
-            settledBobberY = 0;
-            lastBobberY = 0;
-            lastReelTime = 0; // Reset reel time
-            reelStartTime = 0; // Reset reel start time
-            cachedSeaCreature = null; // Clear sea creature cache on new cast
-
             transitionToState(FishingState.WAITING);
-
-            // Randomized next action delay (more human-like)
-            long waitTime = getRandomizedDelay(config.baseWaitTime, 0.25f);
-            // Occasionally wait longer (human gets distracted)
-            if (random.nextDouble() < 0.08) {
-                waitTime = (long)(waitTime * (1.2 + random.nextDouble() * 0.3)); // 20-50% longer
-            }
-            nextActionDelay = System.currentTimeMillis() + (long)(waitTime * humanizationFactor);
         } else {
             // Failed to cast - increment failed attempts
             failedAttempts++;
             if (failedAttempts > 3) {
                 LOGGER.warn("Multiple casting failures, pausing briefly");
-                nextActionDelay = System.currentTimeMillis() + 2000; // 2 second pause
                 failedAttempts = 0;
+                pauseFor(2000); // 2 second pause
             }
         }
     }
     
+    // WAITING enter hook: a new cast is out
+    private void onCastLanded() {
+        lastCastTime = System.currentTimeMillis();
+        bobberSpawnTimeout = System.currentTimeMillis() + BOBBER_SPAWN_TIMEOUT_MS; // Set timeout
+
+        // Reset bobber settling state - a new bobber will appear and initially move
+        bobberSettled = false;
+        bobberSettledTime = 0;
+        settledYRecorded = false;
+        settledBobberY = 0;
+        bobberTelemetry.reset();
+        cachedSeaCreature = null; // Clear sea creature cache on new cast
+        biteLatched = false;
+        latencyTracker.onCast();
+    }
+    
     private void handleWaiting() {
         // Always wait minimum time before checking for fish
         long timeSinceCast = System.currentTimeMillis() - lastCastTime;
@@ -302,13 +287,15 @@ public class FishingManager {
                     LOGGER.warn("Bobber didn't appear after cast, retrying (" + bobberRetryCount + "/" + MAX_BOBBER_RETRIES + ")");
                     bobberSpawnTimeout = 0; // Reset timeout
                     transitionToState(FishingState.CASTING);
-                    nextActionDelay = System.currentTimeMillis() + 500; // Short delay before retry
+                    pauseFor(500); // Short delay before retry
                     return;
                 } else {
                     LOGGER.error("Bobber failed to appear after " + MAX_BOBBER_RETRIES + " retries");
                     bobberRetryCount = 0;
                     bobberSpawnTimeout = 0;
                     failedCatches++;
+                    statsVersion++;
+                    latencyTracker.clearBite(); // Not a reaction to a bite
                     transitionToState(FishingState.REELING); // Try to reel anyway
                     return;
                 }
@@ -319,34 +306,16 @@ public class FishingManager {
             bobberSpawnTimeout = 0;
         }
         
-        // Ensure we don't check for bites until the bobber has settled in the water.
-        // Update settling state based on current bobber velocity.
-        updateBobberSettling();
-
-        if (!bobberSettled) {
-            // Still settling; skip bite checks
-            return;
-        }
-        
-        // Wait 1 second after settling before starting detection
-        if (bobberSettledTime > 0) {
-            long timeSinceSettled = System.currentTimeMillis() - bobberSettledTime;
-            if (timeSinceSettled < DETECTION_DELAY_AFTER_SETTLE_MS) {
-                // Still waiting for detection delay after settling
-                return;
-            }
-        } else {
-            // bobberSettledTime not set yet, skip detection
-            return;
-        }
-
-        // Check if bobber was pulled underwater (fish bite)
-        boolean fishBite = checkForFishBite();
+        // Settling and bite checks run per bobber tick in onBobberTick; pick up its verdict
+        boolean fishBite = biteLatched;
+        biteLatched = false;
         
         // Timeout - if waited too long, reel anyway
-        if (timeSinceCast > config.maxWaitTime) {
+        if (timeSinceCast > settings.maxWaitTime()) {
             LOGGER.debug("Waited " + timeSinceCast + "ms, timeout - reeling");
             failedCatches++; // Count timeout as failed catch
+            statsVersion++;
+            latencyTracker.clearBite(); // A timeout reel is not a reaction to a bite
             transitionToState(FishingState.REELING);
             return;
         }
@@ -356,18 +325,103 @@ public class FishingManager {
             // Human-like reaction: sometimes miss the bite (5% chance)
             if (random.nextDouble() < 0.05) {
                 LOGGER.debug("Missed fish bite (human-like error)");
+                latencyTracker.clearBite(); // Bite->reel is timed from the bite actually reacted to
                 return; // Don't react this time
             }
             
             // Skip FISH_DETECTED state and go straight to reeling for faster response
             // Add humanization delay with more variance
-            long baseReaction = Math.max(50, config.reactionTime / 2);
+            long baseReaction = Math.max(50, settings.reactionTime() / 2);
             long reactionDelay = getRandomizedDelay(baseReaction, 0.3f); // More variance
-            nextActionDelay = System.currentTimeMillis() + reactionDelay;
-            transitionToState(FishingState.REELING);
+            scheduleAction(reactionDelay, () -> transitionToState(FishingState.REELING));
         }
     }
     
+    /**
+     * Called from MixinFishingHook on every tick of the local player's own bobber.
+     * Settling and bite checks run here so a bite is seen on the tick it happens
+     */
+    public void onBobberTick(FishingBobberEntity bobber) {
+        if (bobber.getId() != telemetryBobberId) {
+            // New hook entity - samples from the previous one are meaningless
+            bobberTelemetry.reset();
+            telemetryBobberId = bobber.getId();
+            latencyTracker.onHookAppeared();
+        }
+        fishingBobber = bobber;
+        // getVelocity() returns the entity's own field; unpack it once into primitives
+        net.minecraft.util.math.Vec3d velocity = bobber.getVelocity();
+        bobberTelemetry.push(bobber.getY(), velocity.x, velocity.y, velocity.z, System.currentTimeMillis());
+
+        if (stateMachine.getState() != FishingState.WAITING || biteLatched) {
+            return;
+        }
+
+        // Don't check for fish in first 500ms after the cast
+        if (System.currentTimeMillis() - lastCastTime < 500) {
+            return;
+        }
+
+        // Ensure we don't check for bites until the bobber has settled in the water
+        updateBobberSettling();
+        if (!bobberSettled) {
+            return;
+        }
+
+        // Wait 1 second after settling before starting detection
+        if (bobberSettledTime == 0 || System.currentTimeMillis() - bobberSettledTime < settings.detectionDelay()) {
+            return;
+        }
+
+        // Detection is live - let velocity/position packets for this hook flag bites as they arrive
+        if (!packetBiteDetector.isArmed()) {
+            packetBiteDetector.arm(bobber.getId(), settledBobberY, bobber.getTrackedPosition().getPos().y);
+        }
+
+        // Check if bobber was pulled underwater (fish bite)
+        if (checkForFishBite()) {
+            biteLatched = true;
+            latencyTracker.onBite(System.nanoTime());
+        }
+    }
+
+    /**
+     * Called at the start of every client tick: hands over a bite flagged from
+     * network packets since the last tick, ahead of the bobber's own tick
+     */
+    public void onTickStart() {
+        long arrivalNanos = packetBiteDetector.poll();
+        if (arrivalNanos == 0L || !active || stateMachine.getState() != FishingState.WAITING) {
+            return;
+        }
+        biteLatched = true;
+        latencyTracker.onBite(arrivalNanos);
+        TraceLog.record(TraceLog.Type.BITE_PACKET, (System.nanoTime() - arrivalNanos) / 1000, 0, 0);
+    }
+
+    /**
+     * Called from MixinSoundSystem for splash sounds. The splash usually plays
+     * before the bobber's Y drop becomes visible, so one at the bobber is a bite
+     */
+    public void onBiteSound(double x, double y, double z) {
+        if (stateMachine.getState() != FishingState.WAITING || biteLatched || fishingBobber == null) {
+            return;
+        }
+        // Same gating as tick-based detection: only once the bobber settled and the delay passed
+        if (!packetBiteDetector.isArmed()) {
+            return;
+        }
+        double dx = x - fishingBobber.getX();
+        double dy = y - fishingBobber.getY();
+        double dz = z - fishingBobber.getZ();
+        double distanceSq = dx * dx + dy * dy + dz * dz;
+        if (distanceSq <= BITE_SOUND_RADIUS_SQ) {
+            biteLatched = true;
+            latencyTracker.onBite(System.nanoTime());
+            TraceLog.record(TraceLog.Type.BITE_SOUND, TraceLog.bits(distanceSq), 0, 0);
+        }
+    }
+
     private boolean checkForFishBite() {
         if (fishingBobber == null) {
             return false;
@@ -385,125 +439,121 @@ public class FishingManager {
             return false;
         }
 
-        double velocity = fishingBobber.getVelocity().lengthSquared();
-        double currentY = fishingBobber.getY();
+        double velocity = bobberTelemetry.getLatestVelocitySq();
+        double currentY = bobberTelemetry.getLatestY();
         
         // Check hooked entity detection (sea creatures) FIRST - this is most reliable
+        // Lowest Y in the window, so a dip is caught even if the bobber bounced back up by this tick
+        double yDrop = settledYRecorded ? settledBobberY - bobberTelemetry.getMinY() : 0.0;
         Entity hookedEntity = getHookedEntity(fishingBobber);
         if (hookedEntity != null && hookedEntity.isAlive()) {
-            LOGGER.debug("Sea creature detected! Entity: " + hookedEntity.getName().getString() + " (velocity: " + String.format("%.6f", velocity) + ")");
+            TraceLog.record(TraceLog.Type.BITE_HOOKED, hookedEntity.getId(), TraceLog.bits(velocity), 0);
             // Store the entity for later killing after reeling
             // For now, just reel it in - we'll check for the entity after reeling
-            updatePositionTracking();
-            return true;
+            return recordBiteCheck(true, "hooked", yDrop, velocity, currentY);
         }
 
         // Y-position based detection (bobber pulled down) - PRIMARY METHOD
         // This is more reliable than velocity according to todo.md
         if (bobberSettled && settledYRecorded && settledBobberY > 0) {
-            double yDrop = settledBobberY - currentY;
             if (yDrop >= BITE_Y_DISPLACEMENT) {
-                LOGGER.debug("Fish bite detected by Y displacement: " + String.format("%.2f", yDrop) + " blocks down (from settled Y=" + String.format("%.2f", settledBobberY) + ")");
-                updatePositionTracking();
-                return true;
+                TraceLog.record(TraceLog.Type.BITE_Y_DROP, TraceLog.bits(yDrop), TraceLog.bits(settledBobberY), 0);
+                return recordBiteCheck(true, "y-drop", yDrop, velocity, currentY);
             }
         }
 
         // Velocity-based detection as fallback (less reliable)
         if (velocity > BITE_VELOCITY_THRESHOLD) {
-            LOGGER.debug("Fish bite detected by velocity: " + String.format("%.6f", velocity));
-            updatePositionTracking();
-            return true;
+            TraceLog.record(TraceLog.Type.BITE_VELOCITY, TraceLog.bits(velocity), 0, 0);
+            return recordBiteCheck(true, "velocity", yDrop, velocity, currentY);
         }
 
-        // Update position tracking for next frame
-        updatePositionTracking();
-        
-        return false;
+        return recordBiteCheck(false, "none", yDrop, velocity, currentY);
+    }
+
+    // Emits a JFR bite check event when a recording asks for it; returns the verdict unchanged
+    private static boolean recordBiteCheck(boolean bite, String method, double yDrop, double velocity, double bobberY) {
+        if (FishingEvents.biteCheckEnabled()) {
+            BiteCheckEvent event = new BiteCheckEvent();
+            event.bite = bite;
+            event.method = method;
+            event.yDrop = yDrop;
+            event.velocitySq = velocity;
+            event.bobberY = bobberY;
+            event.commit();
+        }
+        return bite;
     }
     
+    // Hooked entity fallback lookup (reused every call)
+    private static final double HOOK_SEARCH_RADIUS = 0.5;
+    private static final TypeFilter<Entity, Entity> ANY_ENTITY = TypeFilter.instanceOf(Entity.class);
+    private final List<Entity> hookSearchBuffer = new ArrayList<>();
+    private final Predicate<Entity> hookCandidateFilter = entity ->
+        entity.isAlive() && !entity.isRemoved() && entity != client.player;
+
     private Entity getHookedEntity(FishingBobberEntity bobber) {
-        // Try multiple methods to get hooked entity for compatibility
-        try {
-            // Method 1: Direct method call (if available in mappings)
-            java.lang.reflect.Method method = bobber.getClass().getMethod("getHookedEntity");
-            Object result = method.invoke(bobber);
-            if (result instanceof Entity) {
-                return (Entity) result;
-            }
-        } catch (NoSuchMethodException e) {
-            // Try alternative method names
-            try {
-                java.lang.reflect.Method method = bobber.getClass().getMethod("method_3716"); // Yarn mapping name
-                Object result = method.invoke(bobber);
-                if (result instanceof Entity) {
-                    return (Entity) result;
-                }
-            } catch (Exception ignored) {
-            }
-        } catch (Exception e) {
-            LOGGER.debug("Error getting hooked entity via reflection: " + e.getMessage());
+        // Method 1: The bobber's own hooked entity (public getter, no reflection)
+        Entity hooked = bobber.getHookedEntity();
+        if (hooked != null) {
+            return hooked;
         }
         
-        // Method 2: Check nearby entities that might be hooked
+        // Method 2: Check entities very close to the bobber (within 0.5 blocks)
         if (client.world != null && client.player != null) {
-            // Check if any entity is very close to the bobber (within 0.5 blocks)
-            for (Entity entity : client.world.getEntities()) {
-                if (entity != null && entity.isAlive() && !entity.isRemoved()) {
-                    double distance = bobber.distanceTo(entity);
-                    if (distance < 0.5 && entity != client.player) {
-                        // This might be a hooked entity
-                        return entity;
-                    }
+            // Box-bounded query so cost depends on what is near the bobber, not on world population
+            double x = bobber.getX();
+            double y = bobber.getY();
+            double z = bobber.getZ();
+            Box searchBox = new Box(x - HOOK_SEARCH_RADIUS, y - HOOK_SEARCH_RADIUS, z - HOOK_SEARCH_RADIUS,
+                x + HOOK_SEARCH_RADIUS, y + HOOK_SEARCH_RADIUS, z + HOOK_SEARCH_RADIUS);
+            hookSearchBuffer.clear();
+            client.world.collectEntitiesByType(ANY_ENTITY, searchBox, hookCandidateFilter, hookSearchBuffer);
+
+            Entity closest = null;
+            double closestDistanceSq = HOOK_SEARCH_RADIUS * HOOK_SEARCH_RADIUS;
+            for (int i = 0; i < hookSearchBuffer.size(); i++) {
+                Entity entity = hookSearchBuffer.get(i);
+                if (entity == bobber) continue;
+                double distanceSq = bobber.squaredDistanceTo(entity);
+                if (distanceSq < closestDistanceSq) {
+                    // This might be a hooked entity
+                    closest = entity;
+                    closestDistanceSq = distanceSq;
                 }
             }
+            hookSearchBuffer.clear(); // Don't keep entities alive between ticks
+            return closest;
         }
         
         return null;
     }
 
-    private void updatePositionTracking() {
-        if (fishingBobber != null) {
-            lastBobberY = fishingBobber.getY();
-            lastPositionCheckTime = System.currentTimeMillis();
-        }
-    }
-
     private void updateBobberSettling() {
-        if (fishingBobber == null) {
+        if (fishingBobber == null || bobberTelemetry.isEmpty()) {
             // No bobber yet; not settled
             bobberSettled = false;
-            bobberSettleStartTime = 0L;
             return;
         }
 
-        double vel = fishingBobber.getVelocity().lengthSquared();
-
         // Once settled, stay settled - don't reset on velocity spikes (those are fish bites!)
         if (bobberSettled) {
             return;
         }
 
-        if (vel <= BOBBER_SETTLE_VELOCITY_THRESHOLD) {
-            if (bobberSettleStartTime == 0L) {
-                bobberSettleStartTime = System.currentTimeMillis();
-            } else {
-                long since = System.currentTimeMillis() - bobberSettleStartTime;
-                if (since >= BOBBER_SETTLE_DURATION_MS) {
-                    if (!bobberSettled) {
-                        // Record the settled Y position when bobber first settles
-                        settledBobberY = fishingBobber.getY();
-                        settledYRecorded = true;
-                        lastBobberY = settledBobberY;
-                        bobberSettledTime = System.currentTimeMillis(); // Record when settling finished
-                        LOGGER.debug("Bobber settled at Y=" + String.format("%.2f", settledBobberY) + " after " + since + "ms (vel=" + String.format("%.6f", vel) + "). Detection will start in " + DETECTION_DELAY_AFTER_SETTLE_MS + "ms");
-                    }
-                    bobberSettled = true;
-                }
-            }
-        } else {
-            // Bobber still moving; reset settle timer
-            bobberSettleStartTime = 0L;
+        // Settled once a full window of Y samples barely spreads and the bobber isn't moving now
+        if (!bobberTelemetry.isFull() || bobberTelemetry.getLatestVelocitySq() > BOBBER_SETTLE_VELOCITY_THRESHOLD) {
+            return;
+        }
+        double deviation = Math.sqrt(bobberTelemetry.getVarianceY());
+        if (deviation < BOBBER_SETTLE_Y_DEVIATION) {
+            // Record the settled Y position when bobber first settles; the window mean smooths out bobbing
+            settledBobberY = bobberTelemetry.getMeanY();
+            settledYRecorded = true;
+            bobberSettledTime = System.currentTimeMillis(); // Record when settling finished
+            bobberSettled = true;
+            latencyTracker.onHookSettled();
+            TraceLog.record(TraceLog.Type.BOBBER_SETTLED, TraceLog.bits(settledBobberY), bobberTelemetry.getWindowSpan(), TraceLog.bits(deviation));
         }
     }
     
@@ -511,27 +561,32 @@ public class FishingManager {
     private long reelStartTime = 0;
     private static final long MAX_REEL_TIME_MS = 3000; // Max 3 seconds of reeling
     
+    // REELING enter hook: click ONCE when entering reeling state
+    private void onReelStarted() {
+        reelStartTime = System.currentTimeMillis();
+        reelIn();
+        lastReelTime = reelStartTime;
+        latencyTracker.onReel();
+    }
+    
+    // REELING exit hook
+    private void onReelEnded() {
+        reelStartTime = 0;
+        lastReelTime = 0;
+    }
+    
     private void handleReeling() {
-        // Track when we started reeling
-        if (reelStartTime == 0) {
-            reelStartTime = System.currentTimeMillis();
-            // Click ONCE when entering reeling state
-            reelIn();
-            lastReelTime = System.currentTimeMillis();
-        }
-        
         // Safety timeout - if reeling too long, something went wrong
         long reelDuration = System.currentTimeMillis() - reelStartTime;
         if (reelDuration > MAX_REEL_TIME_MS) {
             LOGGER.warn("Reeling timeout - bobber stuck or no fish. Resetting.");
-            reelStartTime = 0;
-            lastReelTime = 0;
             updateFishingBobber();
             // Force remove bobber reference
             if (fishingBobber != null) {
                 fishingBobber = null;
             }
             failedCatches++;
+            statsVersion++;
             transitionToState(FishingState.COOLDOWN);
             return;
         }
@@ -543,12 +598,11 @@ public class FishingManager {
             return;
         }
         
-        // Reset reel tracking
-        reelStartTime = 0;
-        
         // Bobber is gone, reel was successful
+        latencyTracker.onHookRemoved();
         long catchTime = System.currentTimeMillis();
         totalCatches++;
+        statsVersion++;
         lastCatchTime = catchTime;
         lastSuccessfulCatch = catchTime;
         consecutiveCatches++;
@@ -556,220 +610,99 @@ public class FishingManager {
             maxConsecutiveCatches = consecutiveCatches;
         }
         failedAttempts = 0;
-        lastReelTime = 0; // Reset for next time
         
         // After reeling, check if we caught a sea creature that needs to be killed
-        if (config.killSeaCreatures) {
-            // Wait a brief moment for entity to spawn after reel (check immediately first time)
-            // Then check for nearby sea creatures that were just caught
-            Entity nearbyCreature = findNearbySeaCreature();
-            if (nearbyCreature != null && seaCreatureKiller.shouldKill()) {
-                seaCreatureKiller.startKilling(nearbyCreature);
-                transitionToState(FishingState.KILLING_CREATURE);
-                return;
-            }
-            // If no creature found immediately, wait a bit and check again
-            if (System.currentTimeMillis() - catchTime < 300) {
-                return; // Wait a bit more for entity to spawn
-            }
-            // Final check
-            nearbyCreature = findNearbySeaCreature();
-            if (nearbyCreature != null && seaCreatureKiller.shouldKill()) {
-                seaCreatureKiller.startKilling(nearbyCreature);
-                transitionToState(FishingState.KILLING_CREATURE);
+        if (settings.killSeaCreatures()) {
+            // Check immediately first, then once more after the creature had time to spawn
+            if (tryStartKilling()) {
                 return;
             }
+            scheduleAction(300, () -> {
+                if (!tryStartKilling()) {
+                    startCooldown();
+                }
+            });
+            return;
         }
         
+        startCooldown();
+    }
+    
+    private boolean tryStartKilling() {
+        Entity nearbyCreature = findNearbySeaCreature();
+        if (nearbyCreature != null && seaCreatureKiller.shouldKill()) {
+            seaCreatureKiller.startKilling(nearbyCreature);
+            transitionToState(FishingState.KILLING_CREATURE);
+            return true;
+        }
+        return false;
+    }
+    
+    private void startCooldown() {
         // Cooldown before next cast (with human-like variation)
         // Sometimes take longer breaks (10% chance)
-        long baseCooldown = config.baseCooldown;
+        long baseCooldown = settings.baseCooldown();
         if (random.nextDouble() < 0.1) {
             // Take a longer break occasionally
             baseCooldown = (long)(baseCooldown * 1.5);
         }
         long cooldown = getRandomizedDelay(baseCooldown, 0.25f); // More variance
-        nextActionDelay = System.currentTimeMillis() + cooldown;
         
         transitionToState(FishingState.COOLDOWN);
+        scheduleAction(cooldown, () -> transitionToState(FishingState.CASTING));
     }
     
     // Cache for sea creature search
     private Entity cachedSeaCreature = null;
-    private long lastSeaCreatureSearch = 0;
+    private long seaCreatureCacheExpiry = ActionScheduler.NONE;
+    private final Runnable expireSeaCreatureCache = () -> {
+        cachedSeaCreature = null;
+        seaCreatureCacheExpiry = ActionScheduler.NONE;
+    };
     private static final long SEA_CREATURE_SEARCH_INTERVAL = 200; // Search every 200ms
+    private final List<Entity> seaCreatureSearchBuffer = new ArrayList<>(); // Reused by findNearbySeaCreature
     
     private Entity findNearbySeaCreature() {
         if (client.player == null || client.world == null) return null;
         
-        // Use cached result if recent
-        long currentTime = System.currentTimeMillis();
-        if (cachedSeaCreature != null && currentTime - lastSeaCreatureSearch < SEA_CREATURE_SEARCH_INTERVAL) {
+        // Use cached result if recent (the scheduler drops it after SEA_CREATURE_SEARCH_INTERVAL)
+        if (cachedSeaCreature != null) {
             // Validate cached entity is still valid
             if (cachedSeaCreature.isAlive() && !cachedSeaCreature.isRemoved() && 
-                client.player.distanceTo(cachedSeaCreature) <= 5.0) {
+                client.player.squaredDistanceTo(cachedSeaCreature) <= 5.0 * 5.0) {
                 return cachedSeaCreature;
             } else {
                 cachedSeaCreature = null; // Invalid, clear cache
             }
         }
         
-        // Use Box query for better performance instead of iterating all entities
-        net.minecraft.util.math.Box searchBox = new net.minecraft.util.math.Box(
-            client.player.getX() - 5, client.player.getY() - 2, client.player.getZ() - 5,
-            client.player.getX() + 5, client.player.getY() + 2, client.player.getZ() + 5
-        );
+        // Look up nearby candidates in the live sea creature index instead of querying the world
+        double x = client.player.getX();
+        double y = client.player.getY();
+        double z = client.player.getZ();
+        CreatureScanEvent scanEvent = FishingEvents.beginCreatureScan("findNearbySeaCreature");
+        seaCreatureSearchBuffer.clear();
+        SeaCreatureIndex.collect(x - 5, y - 2, z - 5, x + 5, y + 2, z + 5, seaCreatureSearchBuffer);
         
-        List<Entity> nearbyEntities = client.world.getEntitiesByClass(
-            Entity.class, searchBox, entity -> 
-                entity != null && entity.isAlive() && !entity.isRemoved() && 
-                entity != client.player && isSeaCreatureType(entity)
-        );
+        Entity found = TargetSelector.select(seaCreatureSearchBuffer, client.player, Double.MAX_VALUE, settings);
+        if (scanEvent != null) {
+            scanEvent.candidates = seaCreatureSearchBuffer.size();
+            scanEvent.found = found != null;
+            scanEvent.commit();
+        }
+        seaCreatureSearchBuffer.clear();
         
-        if (!nearbyEntities.isEmpty()) {
-            cachedSeaCreature = nearbyEntities.get(0);
-            lastSeaCreatureSearch = currentTime;
+        if (found != null) {
+            cachedSeaCreature = found;
+            scheduler.cancel(seaCreatureCacheExpiry);
+            seaCreatureCacheExpiry = scheduler.schedule(SEA_CREATURE_SEARCH_INTERVAL, expireSeaCreatureCache);
             return cachedSeaCreature;
         }
         
         cachedSeaCreature = null;
-        lastSeaCreatureSearch = currentTime;
         return null;
     }
     
-    private boolean isSeaCreatureType(Entity entity) {
-        if (entity == null || !entity.isAlive() || entity.isRemoved()) {
-            return false;
-        }
-        
-        // CRITICAL: Never attack player pets - this causes bans!
-        if (isPlayerPet(entity)) {
-            return false;
-        }
-        
-        // First check: Is it a water creature type?
-        if (entity instanceof net.minecraft.entity.mob.WaterCreatureEntity) {
-            // But exclude regular squid if disabled
-            if (entity instanceof net.minecraft.entity.passive.SquidEntity && !config.killSquid) {
-                return false;
-            }
-            return true;
-        }
-        
-        // Second check: Parse entity name (remove color codes for Hypixel compatibility)
-        String rawName = entity.getName().getString();
-        String cleanName = stripColorCodes(rawName).toLowerCase();
-        
-        // Hypixel-specific sea creature patterns
-        // Common sea creatures on Hypixel SkyBlock
-        return cleanName.contains("guardian") ||
-               cleanName.contains("squid") ||
-               cleanName.contains("hydra") ||
-               cleanName.contains("shark") ||
-               cleanName.contains("sea walker") ||
-               cleanName.contains("sea guardian") ||
-               cleanName.contains("sea witch") ||
-               cleanName.contains("sea archer") ||
-               cleanName.contains("sea leech") ||
-               cleanName.contains("frozen steve") ||
-               cleanName.contains("night squid") ||
-               cleanName.contains("water hydra") ||
-               cleanName.contains("deep sea") ||
-               cleanName.contains("frost walker") ||
-               cleanName.contains("yeti") ||
-               cleanName.contains("reindrake") ||
-               cleanName.contains("emperor") ||
-               cleanName.contains("lord jawbus") ||
-               cleanName.contains("great white") ||
-               cleanName.contains("nurse shark") ||
-               cleanName.contains("blue shark") ||
-               cleanName.contains("tiger shark") ||
-               cleanName.contains("revenant horror") ||
-               cleanName.contains("terror") ||
-               cleanName.contains("phantom fisher") ||
-               cleanName.contains("grim reaper") ||
-               cleanName.contains("sea") ||
-               cleanName.contains("water") ||
-               cleanName.contains("deep") ||
-               cleanName.contains("abyss") ||
-               cleanName.contains("fisher") ||
-               cleanName.contains("meg") ||
-               // Generic patterns (less specific, check last)
-               (cleanName.contains("fish") && !cleanName.contains("fishing"));
-    }
-    
-    /**
-     * Checks if entity is a player pet (to avoid attacking pets and getting banned)
-     * Uses multiple detection methods for maximum safety
-     */
-    private boolean isPlayerPet(Entity entity) {
-        if (entity == null || client.player == null) return false;
-        
-        // Method 1: Check entity name for pet indicators
-        String rawName = entity.getName().getString();
-        String cleanName = stripColorCodes(rawName).toLowerCase();
-        
-        // Hypixel pet naming patterns
-        if (cleanName.contains("pet") || 
-            cleanName.contains("[lvl") ||
-            cleanName.contains("level") ||
-            cleanName.matches(".*\\[lvl\\s*\\d+\\].*")) {
-            return true;
-        }
-        
-        // Method 2: Check if entity is tamed (oswojone)
-        if (entity instanceof net.minecraft.entity.passive.TameableEntity tameable) {
-            if (tameable.isTamed()) {
-                // If tamed, assume it's a pet (safer to skip all tamed entities)
-                return true;
-            }
-        }
-        
-        // Method 3: Check NBT data for pet tags (Hypixel-specific)
-        try {
-            net.minecraft.nbt.NbtCompound nbt = entity.writeNbt(new net.minecraft.nbt.NbtCompound());
-            if (nbt != null) {
-                // Check for pet-related tags
-                if (nbt.contains("Pet") || 
-                    nbt.contains("pet") ||
-                    nbt.contains("OwnerUUID") ||
-                    nbt.contains("ownerUUID") ||
-                    nbt.contains("OwnerName") ||
-                    nbt.contains("ownerName")) {
-                    return true;
-                }
-                
-                // If OwnerUUID tag exists, assume it's a pet
-                // (UUID reading method not available in this version, but tag presence is enough)
-                if (nbt.contains("OwnerUUID") || nbt.contains("ownerUUID")) {
-                    return true;
-                }
-            }
-        } catch (Exception e) {
-            // NBT check failed, continue with other checks
-        }
-        
-        // Method 4: Check if entity is following player (pet behavior)
-        // Skip this check as getTarget() method is not available in this version
-        // Rely on other detection methods instead
-        
-        // Method 5: Check for common pet entity types that shouldn't be attacked
-        if (entity instanceof net.minecraft.entity.passive.WolfEntity ||
-            entity instanceof net.minecraft.entity.passive.CatEntity ||
-            entity instanceof net.minecraft.entity.passive.ParrotEntity ||
-            entity instanceof net.minecraft.entity.passive.HorseEntity ||
-            entity instanceof net.minecraft.entity.passive.LlamaEntity ||
-            entity instanceof net.minecraft.entity.passive.FoxEntity) {
-            // These are common pet types - be extra careful
-            double distance = client.player.distanceTo(entity);
-            if (distance < 15.0) {
-                return true; // Safe to assume it's a pet if close
-            }
-        }
-        
-        return false;
-    }
-    
     /**
      * Checks if player is positioned over water (for better casting)
      * Prevents casting when not over water
@@ -835,24 +768,13 @@ public class FishingManager {
         return false;
     }
     
-    /**
-     * Removes Minecraft color codes (§) and formatting from text
-     * This is important for Hypixel where entity names have color formatting
-     */
-    private String stripColorCodes(String text) {
-        if (text == null) return "";
-        // Remove all § codes (color codes and formatting)
-        return text.replaceAll("§[0-9a-fk-or]", "");
-    }
-    
     private void handleCooldown() {
-        if (System.currentTimeMillis() >= nextActionDelay) {
-            transitionToState(FishingState.CASTING);
-        }
+        // Only reached once no cast is scheduled (e.g. after a reel timeout) - cast right away
+        transitionToState(FishingState.CASTING);
     }
     
     private void handleKillingCreature() {
-        // Always update sea creature killer (handles returning to position too)
+        // Per-tick kill checks; rotation, movement and returning to position run on the scheduler
         seaCreatureKiller.update();
         
         if (seaCreatureKiller.isKilling()) {
@@ -868,6 +790,7 @@ public class FishingManager {
         
         // Killing finished and returned to position, continue fishing
         seaCreaturesCaught++;
+        statsVersion++;
         transitionToState(FishingState.COOLDOWN);
     }
     
@@ -877,7 +800,7 @@ public class FishingManager {
         // Use fishing rod cast
         client.interactionManager.interactItem(client.player, Hand.MAIN_HAND);
         
-        if (config.playSounds) {
+        if (settings.playSounds()) {
             // Play casting sound via SoundUtils
             SoundUtils.playSound(createSoundEvent("entity.bobber.throw"), 0.5f, 1.0f);
         }
@@ -890,7 +813,7 @@ public class FishingManager {
         
         client.interactionManager.interactItem(client.player, Hand.MAIN_HAND);
         
-        if (config.playSounds) {
+        if (settings.playSounds()) {
             SoundUtils.playSound(createSoundEvent("entity.fishing_player.reel_in"), 0.8f, 1.0f);
         }
         
@@ -925,7 +848,7 @@ public class FishingManager {
     }
     
     private boolean shouldStartFishing() {
-        if (!config.autoStart) return false;
+        if (!settings.autoStart()) return false;
         return isNearWater();
     }
     
@@ -955,19 +878,19 @@ public class FishingManager {
     }
     
     private void checkEmergencyConditions() {
-        if (client.player == null) return;
+        if (client.player == null || inRandomBreak) return;
         
-        if (client.player.getHealth() < config.emergencyHealthThreshold) {
+        if (client.player.getHealth() < settings.emergencyHealthThreshold()) {
             stopFishing("Low health");
             return;
         }
         
-        if (PlayerUtils.hasPlayerMoved() && config.pauseOnMovement) {
+        if (PlayerUtils.hasPlayerMoved() && settings.pauseOnMovement()) {
             // Player moved - pause fishing
             return;
         }
         
-        if (PlayerUtils.hasPlayerRotated() && config.pauseOnRotation) {
+        if (PlayerUtils.hasPlayerRotated() && settings.pauseOnRotation()) {
             // Player rotated - pause fishing
             return;
         }
@@ -987,9 +910,43 @@ public class FishingManager {
         return (long) (baseDelay * randomFactor);
     }
     
+    /**
+     * Runs the next step of the state machine after a delay, replacing any step already
+     * scheduled. The state handlers are paused until it runs
+     */
+    private void scheduleAction(long delayMs, Runnable action) {
+        scheduler.cancel(pendingAction);
+        pendingAction = scheduler.schedule(delayMs, () -> {
+            pendingAction = ActionScheduler.NONE;
+            if (active) {
+                action.run();
+            }
+        });
+    }
+    
+    private void pauseFor(long delayMs) {
+        scheduleAction(delayMs, () -> {});
+    }
+    
+    private void cancelScheduledWork() {
+        scheduler.cancel(emergencyCheckTask);
+        scheduler.cancel(afkUpdateTask);
+        scheduler.cancel(randomBreakTask);
+        emergencyCheckTask = ActionScheduler.NONE;
+        afkUpdateTask = ActionScheduler.NONE;
+        randomBreakTask = ActionScheduler.NONE;
+        inRandomBreak = false;
+    }
+    
+    private void cancelPendingAction() {
+        scheduler.cancel(pendingAction);
+        pendingAction = ActionScheduler.NONE;
+    }
+    
     private void transitionToState(FishingState newState) {
-        currentState = newState;
-        AbyssalFishing.LOGGER.debug("Fishing state transition: " + currentState);
+        // A scheduled step belongs to the state it was scheduled in
+        cancelPendingAction();
+        stateMachine.transition(newState);
     }
     
     public void toggleFishing() {
@@ -1008,44 +965,64 @@ public class FishingManager {
         }
         
         if (!hasFishingRod()) {
-            setHUDMessage("§c[AbyssalFishing] §fNo fishing rod in hand!", config.hudMessageDuration);
+            setHUDMessage("§c[AbyssalFishing] §fNo fishing rod in hand!", settings.hudMessageDuration());
             LOGGER.warn("Cannot start fishing: no fishing rod");
             return;
         }
         
         active = true;
-        currentState = FishingState.IDLE;
+        stateMachine.reset();
         sessionStartTime = System.currentTimeMillis();
         failedAttempts = 0;
         failedCatches = 0;
         maxConsecutiveCatches = 0;
-        nextActionDelay = System.currentTimeMillis();
+        statsVersion++;
+        latencyTracker.reset();
+        cancelPendingAction();
+        
+        // Register periodic work and the first random break
+        cancelScheduledWork();
+        emergencyCheckTask = scheduler.schedulePeriodic(EMERGENCY_CHECK_INTERVAL, this::checkEmergencyConditions);
+        afkUpdateTask = scheduler.schedulePeriodic(AFK_UPDATE_INTERVAL, this::updateAFKPrevention);
+        scheduleNextRandomBreak();
         AbyssalFishing.LOGGER.info("Fishing started");
-        setHUDMessage("§6[AbyssalFishing] §fFishing started", config.hudMessageDuration);
+        setHUDMessage("§6[AbyssalFishing] §fFishing started", settings.hudMessageDuration());
     }
     
     public void stopFishing(String reason) {
         active = false;
-        currentState = FishingState.IDLE;
+        statsVersion++;
+        stateMachine.reset();
         fishingBobber = null;
+        biteLatched = false;
+        packetBiteDetector.disarm();
+        cancelPendingAction();
+        cancelScheduledWork();
+        seaCreatureKiller.cancelScheduledWork();
         AbyssalFishing.LOGGER.info("Fishing stopped: " + reason);
-        setHUDMessage("§6[AbyssalFishing] §fFishing stopped: " + reason, config.hudMessageDuration);
+        setHUDMessage("§6[AbyssalFishing] §fFishing stopped: " + reason, settings.hudMessageDuration());
     }
     
     
     
     // Getters
     public boolean isActive() { return active; }
-    public FishingState getCurrentState() { return currentState; }
+    public FishingState getCurrentState() { return stateMachine.getState(); }
+    public FishingStateMachine getStateMachine() { return stateMachine; }
+    public CycleLatencyTracker getLatencyTracker() { return latencyTracker; }
     public int getTotalCatches() { return totalCatches; }
     public int getSeaCreaturesCaught() { return seaCreaturesCaught; }
     public int getFailedCatches() { return failedCatches; }
     public int getMaxConsecutiveCatches() { return maxConsecutiveCatches; }
     public long getSessionTime() { return System.currentTimeMillis() - sessionStartTime; }
     public int getConsecutiveCatches() { return consecutiveCatches; }
+    public int getStatsVersion() { return statsVersion; }
+    public int getHudMessageVersion() { return hudMessageVersion; }
     public FishingBobberEntity getFishingBobber() { return fishingBobber; }
     public boolean isBobberSettled() { return bobberSettled; }
-    public double getBobberVelocity() { return fishingBobber != null ? fishingBobber.getVelocity().lengthSquared() : 0.0; }
+    public double getBobberVelocity() { return fishingBobber != null ? bobberTelemetry.getLatestVelocitySq() : 0.0; }
+    public BobberTelemetry getBobberTelemetry() { return bobberTelemetry; }
+    public PacketBiteDetector getPacketBiteDetector() { return packetBiteDetector; }
     public double getSuccessRate() {
         int total = totalCatches + failedCatches;
         return total > 0 ? (double) totalCatches / total * 100.0 : 0.0;
@@ -1054,6 +1031,10 @@ public class FishingManager {
         return lastSuccessfulCatch > 0 ? System.currentTimeMillis() - lastSuccessfulCatch : 0;
     }
     
+    public ActionScheduler getScheduler() {
+        return scheduler;
+    }
+    
     public SeaCreatureKiller getSeaCreatureKiller() {
         return seaCreatureKiller;
     }
@@ -0,0 +1,165 @@
+package com.abyssalfishing.core;
+
+import com.abyssalfishing.AbyssalFishing;
+import com.abyssalfishing.core.FishingManager.FishingState;
+import com.abyssalfishing.jfr.FishingEvents;
+import com.abyssalfishing.jfr.StateTransitionEvent;
+import com.abyssalfishing.utils.Histogram;
+
+import java.util.Arrays;
+
+/**
+ * Table-driven fishing state machine. Every state has a tick handler, optional
+ * enter/exit hooks and the set of states it may move to; transitions missing from
+ * the table are rejected. Time spent in each state is summed per fishing cycle
+ * (start or cast after cooldown, up to the next such cast) and recorded into
+ * fixed-bucket histograms, in ms
+ */
+public class FishingStateMachine {
+    private static final FishingState[] STATES = FishingState.values();
+
+    private final Runnable[] tickHandlers = new Runnable[STATES.length];
+    private final Runnable[] enterHooks = new Runnable[STATES.length];
+    private final Runnable[] exitHooks = new Runnable[STATES.length];
+    // Per state: bit per state ordinal it may transition to
+    private final int[] allowed = new int[STATES.length];
+
+    // Dwell time per state within the current cycle, and per completed cycle
+    private final long[] cycleDwell = new long[STATES.length];
+    private final long[] lastCycleDwell = new long[STATES.length];
+    private final Histogram[] dwellHistograms = new Histogram[STATES.length];
+    private final Histogram cycleHistogram = new Histogram();
+
+    private FishingState current = FishingState.IDLE;
+    private long enteredAtNanos = System.nanoTime();
+    private int version; // Bumped on every state change, for HUD caches
+
+    public FishingStateMachine() {
+        for (int i = 0; i < STATES.length; i++) {
+            dwellHistograms[i] = new Histogram();
+        }
+    }
+
+    /**
+     * Adds a row to the transition table. {@code onEnter}/{@code onExit} may be null
+     */
+    public FishingStateMachine state(FishingState state, Runnable onTick, Runnable onEnter, Runnable onExit, FishingState... next) {
+        int i = state.ordinal();
+        tickHandlers[i] = onTick;
+        enterHooks[i] = onEnter;
+        exitHooks[i] = onExit;
+        allowed[i] = 0;
+        for (FishingState target : next) {
+            allowed[i] |= 1 << target.ordinal();
+        }
+        return this;
+    }
+
+    /**
+     * Runs the current state's tick handler
+     */
+    public void tick() {
+        Runnable handler = tickHandlers[current.ordinal()];
+        if (handler != null) {
+            handler.run();
+        }
+    }
+
+    /**
+     * Moves to {@code next} if the table allows it: exit hook, dwell accounting, enter hook.
+     * Returns false (and stays put) for a transition missing from the table
+     */
+    public boolean transition(FishingState next) {
+        if ((allowed[current.ordinal()] & (1 << next.ordinal())) == 0) {
+            AbyssalFishing.LOGGER.warn("Rejected fishing state transition " + current + " -> " + next);
+            return false;
+        }
+        switchTo(next);
+        return true;
+    }
+
+    /**
+     * Forces the machine back to IDLE (start/stop fishing), running the current state's
+     * exit hook. The unfinished cycle is discarded
+     */
+    public void reset() {
+        runHook(exitHooks[current.ordinal()]);
+        current = FishingState.IDLE;
+        enteredAtNanos = System.nanoTime();
+        version++;
+        Arrays.fill(cycleDwell, 0L);
+    }
+
+    public FishingState getState() {
+        return current;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public long getTimeInStateMs() {
+        return (System.nanoTime() - enteredAtNanos) / 1_000_000L;
+    }
+
+    /**
+     * Per-cycle time spent in {@code state}; cycles that never entered it record 0
+     */
+    public Histogram getDwellHistogram(FishingState state) {
+        return dwellHistograms[state.ordinal()];
+    }
+
+    /**
+     * Total length of each completed cycle
+     */
+    public Histogram getCycleHistogram() {
+        return cycleHistogram;
+    }
+
+    public long getLastCycleDwell(FishingState state) {
+        return lastCycleDwell[state.ordinal()];
+    }
+
+    private void switchTo(FishingState next) {
+        long now = System.nanoTime();
+        long dwell = (now - enteredAtNanos) / 1_000_000L;
+        cycleDwell[current.ordinal()] += dwell;
+        runHook(exitHooks[current.ordinal()]);
+        TraceLog.record(TraceLog.Type.STATE_TRANSITION, current.ordinal(), next.ordinal(), dwell);
+
+        if (FishingEvents.stateTransitionEnabled()) {
+            StateTransitionEvent event = new StateTransitionEvent();
+            event.from = current.name();
+            event.to = next.name();
+            event.dwell = dwell;
+            event.commit();
+        }
+
+        FishingState previous = current;
+        current = next;
+        enteredAtNanos = now;
+        version++;
+        // A cast after the cooldown starts the next cycle; a re-cast from WAITING does not
+        if (previous == FishingState.COOLDOWN && next == FishingState.CASTING) {
+            completeCycle();
+        }
+        runHook(enterHooks[next.ordinal()]);
+    }
+
+    private void completeCycle() {
+        long total = 0;
+        for (int i = 0; i < STATES.length; i++) {
+            dwellHistograms[i].record(cycleDwell[i]);
+            lastCycleDwell[i] = cycleDwell[i];
+            total += cycleDwell[i];
+            cycleDwell[i] = 0;
+        }
+        cycleHistogram.record(total);
+    }
+
+    private static void runHook(Runnable hook) {
+        if (hook != null) {
+            hook.run();
+        }
+    }
+}
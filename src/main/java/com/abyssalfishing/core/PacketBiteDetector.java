@@ -0,0 +1,110 @@
+package com.abyssalfishing.core;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Flags fish bites from entity velocity/position packets as they arrive on the netty thread.
+ * The netty side only reads the volatile arming state published by the client thread and
+ * posts the arrival time into a single-slot mailbox; FishingManager drains it on the client thread
+ */
+public class PacketBiteDetector {
+    // Server pulls the bobber down by 0.24-0.4 blocks/tick on a bite; idle bobbing stays well above this
+    private static final double BITE_VELOCITY_Y = -0.15;
+    // Relative move packets carry deltas in 1/4096 block, applied to the floored tracked position
+    private static final double POSITION_SCALE = 4096.0;
+
+    // Published by the client thread, read by the netty thread
+    private volatile int watchedBobberId = -1;
+    private volatile double settledY;
+    private volatile double armedTrackedY;
+    private volatile int generation;
+
+    // Netty thread only: the watched bobber's server-side Y, advanced by relative moves
+    private double trackedY;
+    private int trackedGeneration = -1;
+
+    // Bites are tagged with the bobber they were seen on, so one posted after a disarm never reaches the next cast
+    private record Bite(int bobberId, long arrivalNanos) {}
+
+    // Single-slot mailbox, null when empty
+    private final AtomicReference<Bite> mailbox = new AtomicReference<>();
+
+    /**
+     * Client thread: start watching packets for this bobber once it has settled
+     *
+     * @param trackedY the bobber's tracked (last packet) Y, the base relative moves are applied to
+     */
+    public void arm(int bobberId, double settledY, double trackedY) {
+        this.settledY = settledY;
+        this.armedTrackedY = trackedY;
+        generation++;
+        this.watchedBobberId = bobberId;
+        mailbox.set(null);
+    }
+
+    /**
+     * Client thread: stop watching and drop any undelivered bite
+     */
+    public void disarm() {
+        watchedBobberId = -1;
+        mailbox.set(null);
+    }
+
+    public boolean isArmed() {
+        return watchedBobberId != -1;
+    }
+
+    /**
+     * Netty thread: entity velocity update arrived
+     */
+    public void onVelocityPacket(int entityId, double velocityY) {
+        if (entityId != watchedBobberId) return;
+        if (velocityY <= BITE_VELOCITY_Y) {
+            post(entityId);
+        }
+    }
+
+    /**
+     * Netty thread: relative entity move arrived, {@code deltaY} in packet units
+     */
+    public void onMovePacket(int entityId, long deltaY) {
+        if (entityId != watchedBobberId) return;
+        syncGeneration();
+        onPositionPacket(entityId, (Math.floor(trackedY * POSITION_SCALE) + deltaY) / POSITION_SCALE);
+    }
+
+    /**
+     * Netty thread: absolute entity position arrived
+     */
+    public void onPositionPacket(int entityId, double y) {
+        if (entityId != watchedBobberId) return;
+        syncGeneration();
+        trackedY = y;
+        if (settledY - y >= FishingManager.BITE_Y_DISPLACEMENT) {
+            post(entityId);
+        }
+    }
+
+    /**
+     * Client thread: take the pending bite, returning its packet arrival nanoTime or 0 if none
+     */
+    public long poll() {
+        Bite bite = mailbox.getAndSet(null);
+        if (bite == null || bite.bobberId() != watchedBobberId) return 0L;
+        return bite.arrivalNanos();
+    }
+
+    // Restart tracking from the client's tracked Y after each arm
+    private void syncGeneration() {
+        int current = generation;
+        if (current != trackedGeneration) {
+            trackedGeneration = current;
+            trackedY = armedTrackedY;
+        }
+    }
+
+    private void post(int bobberId) {
+        // Keep the earliest arrival if several packets flag the same bite
+        mailbox.compareAndSet(null, new Bite(bobberId, Math.max(1L, System.nanoTime())));
+    }
+}
@@ -0,0 +1,189 @@
+package com.abyssalfishing.core;
+
+import com.abyssalfishing.AbyssalFishing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Binary trace of hot-path fishing events. Each record is a fixed run of longs
+ * (timestamp, type, three payload words) in a preallocated ring, written by the
+ * client thread without allocating or formatting. A background thread decodes new
+ * records to logs/abyssalfishing-trace.log once a second; records the writer laps
+ * before they are flushed are counted as lost. Each slot carries its own sequence
+ * word (a seqlock), so a record overwritten while it is being decoded is dropped
+ * instead of written out torn
+ */
+public class TraceLog {
+    private static final Path FILE = Paths.get("logs", "abyssalfishing-trace.log");
+    private static final long FLUSH_INTERVAL_MS = 1000;
+    private static final int CAPACITY = 1 << 13; // Records, power of two
+    private static final int FIELDS = 5; // timestamp, type, a, b, c
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final FishingManager.FishingState[] STATES = FishingManager.FishingState.values();
+
+    @FunctionalInterface
+    private interface Decoder {
+        void decode(long a, long b, long c, StringBuilder out);
+    }
+
+    public enum Type {
+        // a = from ordinal, b = to ordinal, c = ms spent in "from"
+        STATE_TRANSITION((a, b, c, out) -> out.append("state ").append(STATES[(int) a]).append(" -> ").append(STATES[(int) b])
+            .append(" (").append(c).append("ms in ").append(STATES[(int) a]).append(')')),
+        // a = settled Y (window mean), b = ms the window spans, c = Y standard deviation over it
+        BOBBER_SETTLED((a, b, c, out) -> out.append("bobber settled at Y=").append(format(a, "%.2f"))
+            .append(" (sd=").append(format(c, "%.4f")).append(" over ").append(b).append("ms)")),
+        // a = hooked entity id, b = velocity^2
+        BITE_HOOKED((a, b, c, out) -> out.append("bite: hooked entity #").append(a).append(" (vel=").append(format(b, "%.6f")).append(')')),
+        // a = Y drop, b = settled Y
+        BITE_Y_DROP((a, b, c, out) -> out.append("bite: Y drop ").append(format(a, "%.2f"))
+            .append(" blocks from settled Y=").append(format(b, "%.2f"))),
+        // a = velocity^2
+        BITE_VELOCITY((a, b, c, out) -> out.append("bite: velocity ").append(format(a, "%.6f"))),
+        // a = microseconds between packet arrival and the tick that picked it up
+        BITE_PACKET((a, b, c, out) -> out.append("bite: network packet ").append(a).append("us before the tick")),
+        // a = squared distance between the splash and the bobber
+        BITE_SOUND((a, b, c, out) -> out.append("bite: splash sound ").append(String.format("%.2f", Math.sqrt(fromBits(a))))
+            .append(" blocks from the bobber"));
+
+        private final Decoder decoder;
+
+        Type(Decoder decoder) {
+            this.decoder = decoder;
+        }
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    private static final long[] RING = new long[CAPACITY * FIELDS];
+    // Sequence + 1 of the record in each slot, 0 while the writer is filling it
+    private static final long[] SLOT_SEQ = new long[CAPACITY];
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(long[].class);
+    // Records published to the flusher; the ring itself is written by the client thread only
+    private static final AtomicLong PUBLISHED = new AtomicLong();
+    private static long writeSeq;
+
+    // Wall clock anchor for turning nanoTime stamps into readable times
+    private static final long ANCHOR_MILLIS = System.currentTimeMillis();
+    private static final long ANCHOR_NANOS = System.nanoTime();
+
+    private static long flushedSeq;
+    private static BufferedWriter writer;
+    private static Thread thread;
+
+    public static void record(Type type, long a, long b, long c) {
+        long seq = writeSeq;
+        int slot = (int) (seq & (CAPACITY - 1));
+        int base = slot * FIELDS;
+        // Invalidate the slot before touching the payload, so a reader can't match it mid-write
+        SLOT.setOpaque(SLOT_SEQ, slot, 0L);
+        VarHandle.storeStoreFence();
+        RING[base] = System.nanoTime();
+        RING[base + 1] = type.ordinal();
+        RING[base + 2] = a;
+        RING[base + 3] = b;
+        RING[base + 4] = c;
+        SLOT.setRelease(SLOT_SEQ, slot, seq + 1);
+        writeSeq = seq + 1;
+        PUBLISHED.lazySet(seq + 1);
+    }
+
+    /**
+     * Payload word for a double; decoders read it back with the matching format
+     */
+    public static long bits(double value) {
+        return Double.doubleToRawLongBits(value);
+    }
+
+    /**
+     * Truncates the trace file and starts the background flush thread
+     */
+    public static synchronized void start() {
+        if (thread != null) return;
+        try {
+            Files.createDirectories(FILE.getParent());
+            writer = Files.newBufferedWriter(FILE, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            AbyssalFishing.LOGGER.error("Failed to open trace log " + FILE + ", tracing stays in memory", e);
+            return;
+        }
+        thread = new Thread(TraceLog::run, "AbyssalFishing Trace Flush");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Decodes every record published since the last flush and writes it out
+     */
+    public static synchronized void flush() {
+        if (writer == null) return;
+
+        long published = PUBLISHED.get();
+        long from = Math.max(flushedSeq, published - CAPACITY);
+        StringBuilder line = new StringBuilder(128);
+        try {
+            if (from > flushedSeq) {
+                writer.write("-- " + (from - flushedSeq) + " trace records lost (ring overrun)\n");
+            }
+            for (long seq = from; seq < published; seq++) {
+                int slot = (int) (seq & (CAPACITY - 1));
+                int base = slot * FIELDS;
+                if ((long) SLOT.getAcquire(SLOT_SEQ, slot) != seq + 1) {
+                    writer.write("-- trace record overwritten while flushing\n");
+                    continue;
+                }
+                long timestamp = RING[base];
+                int type = (int) RING[base + 1];
+                long a = RING[base + 2];
+                long b = RING[base + 3];
+                long c = RING[base + 4];
+                // Discard the record if the writer started on the slot while it was being read
+                VarHandle.loadLoadFence();
+                if ((long) SLOT.getAcquire(SLOT_SEQ, slot) != seq + 1) {
+                    writer.write("-- trace record overwritten while flushing\n");
+                    continue;
+                }
+
+                line.setLength(0);
+                line.append(TIME.format(Instant.ofEpochMilli(ANCHOR_MILLIS + (timestamp - ANCHOR_NANOS) / 1_000_000L))).append(' ');
+                TYPES[type].decoder.decode(a, b, c, line);
+                line.append('\n');
+                writer.append(line);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            AbyssalFishing.LOGGER.error("Failed to write trace log", e);
+        }
+        flushedSeq = published;
+    }
+
+    private static void run() {
+        try {
+            while (true) {
+                Thread.sleep(FLUSH_INTERVAL_MS);
+                flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static double fromBits(long bits) {
+        return Double.longBitsToDouble(bits);
+    }
+
+    private static String format(long bits, String pattern) {
+        return String.format(pattern, fromBits(bits));
+    }
+}
@@ -35,7 +35,7 @@ public class MouseMovement {
     }
     
     public void update() {
-        if (!config.preventAFK || client.player == null) return;
+        if (!config.snapshot().preventAFK() || client.player == null) return;
         
         long currentTime = System.currentTimeMillis();
         
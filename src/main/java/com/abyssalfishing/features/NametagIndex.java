@@ -0,0 +1,303 @@
+package com.abyssalfishing.features;
+
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.TypeFilter;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Pairs Hypixel nametag armor stands with the mob directly beneath them.
+ * Named stands are kept in a block-column spatial hash and paired incrementally
+ * on load, move and rename, giving an O(1) display name lookup per mob
+ */
+public class NametagIndex {
+    // A nametag stand floats just above the top of its mob
+    private static final double HORIZONTAL_RANGE = 0.6;
+    private static final double BELOW_TOP = 0.5;
+    private static final double ABOVE_TOP = 2.0;
+    // Unpaired stands that stay in their column retry pairing at this cadence
+    private static final int PAIR_RETRY_TICKS = 10;
+
+    private static final TypeFilter<Entity, LivingEntity> LIVING = TypeFilter.instanceOf(LivingEntity.class);
+    private static final Predicate<LivingEntity> NAMETAG_OWNER = entity ->
+        !(entity instanceof ArmorStandEntity) && !(entity instanceof PlayerEntity) && entity.isAlive();
+    private static final List<LivingEntity> MOB_BUFFER = new ArrayList<>();
+
+    // Every named stand, for the per-tick refresh
+    private static final List<ArmorStandEntity> STANDS = new ArrayList<>();
+    // Block column key -> named stands in that column
+    private static final Long2ObjectOpenHashMap<List<ArmorStandEntity>> COLUMNS = new Long2ObjectOpenHashMap<>();
+    // Stand id -> column key the stand is bucketed under
+    private static final Int2LongOpenHashMap COLUMN_OF = new Int2LongOpenHashMap();
+    // Pairings in both directions, plus the nametag text per mob
+    private static final Int2ObjectOpenHashMap<Entity> MOB_OF_STAND = new Int2ObjectOpenHashMap<>();
+    private static final Int2ObjectOpenHashMap<ArmorStandEntity> STAND_OF_MOB = new Int2ObjectOpenHashMap<>();
+    private static final Int2ObjectOpenHashMap<String> NAME_OF_MOB = new Int2ObjectOpenHashMap<>();
+    private static World indexWorld;
+    private static int tickCount;
+
+    /**
+     * Nametag text of the stand paired with this mob, or null if it has none. O(1)
+     */
+    public static String getNametag(Entity mob) {
+        if (mob.getWorld() != indexWorld) return null;
+        return NAME_OF_MOB.get(mob.getId());
+    }
+
+    /**
+     * Name to show for a mob: its nametag if paired, otherwise its own name
+     */
+    public static String getDisplayName(Entity mob) {
+        String nametag = getNametag(mob);
+        return nametag != null ? nametag : mob.getName().getString();
+    }
+
+    public static void onEntityLoad(Entity entity, World world) {
+        if (world != indexWorld) {
+            clear();
+            indexWorld = world;
+        }
+        if (entity instanceof ArmorStandEntity stand) {
+            if (stand.hasCustomName()) {
+                addStand(stand);
+            }
+        } else if (entity instanceof LivingEntity living && NAMETAG_OWNER.test(living)) {
+            pairMob(entity);
+        }
+    }
+
+    public static void onEntityUnload(Entity entity, World world) {
+        if (world != indexWorld) return;
+        if (entity instanceof ArmorStandEntity stand) {
+            removeStand(stand);
+        } else {
+            ArmorStandEntity stand = STAND_OF_MOB.get(entity.getId());
+            if (stand != null) {
+                unpair(stand);
+            }
+        }
+    }
+
+    /**
+     * Custom name changed - track/untrack the stand or refresh its paired mob's name
+     */
+    public static void onNameChanged(Entity entity) {
+        if (!(entity instanceof ArmorStandEntity stand) || entity.getWorld() != indexWorld) return;
+
+        boolean indexed = COLUMN_OF.containsKey(stand.getId());
+        boolean named = !stand.isRemoved() && stand.hasCustomName();
+        if (named && !indexed) {
+            addStand(stand);
+        } else if (!named && indexed) {
+            removeStand(stand);
+        } else if (named) {
+            Entity mob = MOB_OF_STAND.get(stand.getId());
+            if (mob != null) {
+                NAME_OF_MOB.put(mob.getId(), stand.getName().getString());
+                SeaCreatureIndex.onNameChanged(mob);
+            }
+        }
+    }
+
+    /**
+     * Re-buckets stands that changed column and re-pairs stands whose mob moved away.
+     * O(named stands), called once per tick
+     */
+    public static void tick() {
+        tickCount++;
+        for (int i = STANDS.size() - 1; i >= 0; i--) {
+            ArmorStandEntity stand = STANDS.get(i);
+            if (stand.isRemoved()) {
+                // Normally handled by the unload event; guard against missed events
+                removeStand(stand);
+                continue;
+            }
+
+            long key = columnKey(stand.getX(), stand.getZ());
+            long previous = COLUMN_OF.get(stand.getId());
+            boolean moved = key != previous;
+            if (moved) {
+                removeFromColumn(previous, stand);
+                addToColumn(key, stand);
+                COLUMN_OF.put(stand.getId(), key);
+            }
+
+            Entity mob = MOB_OF_STAND.get(stand.getId());
+            if (mob != null) {
+                if (mob.isRemoved() || !isAbove(stand, mob)) {
+                    unpair(stand);
+                    pairStand(stand);
+                }
+            } else if (moved || (tickCount + stand.getId()) % PAIR_RETRY_TICKS == 0) {
+                pairStand(stand);
+            }
+        }
+    }
+
+    public static int size() {
+        return STANDS.size();
+    }
+
+    public static void clear() {
+        STANDS.clear();
+        COLUMNS.clear();
+        COLUMN_OF.clear();
+        MOB_OF_STAND.clear();
+        STAND_OF_MOB.clear();
+        NAME_OF_MOB.clear();
+        indexWorld = null;
+    }
+
+    private static void addStand(ArmorStandEntity stand) {
+        if (COLUMN_OF.containsKey(stand.getId())) return;
+        long key = columnKey(stand.getX(), stand.getZ());
+        STANDS.add(stand);
+        addToColumn(key, stand);
+        COLUMN_OF.put(stand.getId(), key);
+        pairStand(stand);
+    }
+
+    private static void removeStand(ArmorStandEntity stand) {
+        if (!COLUMN_OF.containsKey(stand.getId())) return;
+        unpair(stand);
+        long key = COLUMN_OF.remove(stand.getId());
+        removeFromColumn(key, stand);
+        STANDS.remove(stand);
+    }
+
+    /**
+     * Pairs a stand with the closest unpaired mob beneath it, using the world's own entity sections
+     */
+    private static void pairStand(ArmorStandEntity stand) {
+        World world = stand.getWorld();
+        if (world == null) return;
+
+        Box below = new Box(
+            stand.getX() - HORIZONTAL_RANGE, stand.getY() - ABOVE_TOP - 4.0, stand.getZ() - HORIZONTAL_RANGE,
+            stand.getX() + HORIZONTAL_RANGE, stand.getY() + BELOW_TOP, stand.getZ() + HORIZONTAL_RANGE
+        );
+        MOB_BUFFER.clear();
+        world.collectEntitiesByType(LIVING, below, NAMETAG_OWNER, MOB_BUFFER);
+
+        Entity best = null;
+        double bestDistanceSq = Double.MAX_VALUE;
+        for (int i = 0; i < MOB_BUFFER.size(); i++) {
+            Entity mob = MOB_BUFFER.get(i);
+            if (STAND_OF_MOB.containsKey(mob.getId()) || !isAbove(stand, mob)) continue;
+            double dx = mob.getX() - stand.getX();
+            double dz = mob.getZ() - stand.getZ();
+            double distanceSq = dx * dx + dz * dz;
+            if (distanceSq < bestDistanceSq) {
+                bestDistanceSq = distanceSq;
+                best = mob;
+            }
+        }
+        MOB_BUFFER.clear();
+
+        if (best != null) {
+            pair(stand, best);
+        }
+    }
+
+    /**
+     * Pairs a newly loaded mob with the unpaired stand above it closest to its top (then closest
+     * horizontally), probing every column it overlaps
+     */
+    private static void pairMob(Entity mob) {
+        if (STANDS.isEmpty() || STAND_OF_MOB.containsKey(mob.getId())) return;
+
+        double top = mob.getBoundingBox().maxY;
+        ArmorStandEntity best = null;
+        double bestVertical = Double.MAX_VALUE;
+        double bestHorizontalSq = Double.MAX_VALUE;
+        int minX = MathHelper.floor(mob.getX() - HORIZONTAL_RANGE);
+        int maxX = MathHelper.floor(mob.getX() + HORIZONTAL_RANGE);
+        int minZ = MathHelper.floor(mob.getZ() - HORIZONTAL_RANGE);
+        int maxZ = MathHelper.floor(mob.getZ() + HORIZONTAL_RANGE);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                List<ArmorStandEntity> column = COLUMNS.get(columnKey(x, z));
+                if (column == null) continue;
+                for (int i = 0; i < column.size(); i++) {
+                    ArmorStandEntity stand = column.get(i);
+                    if (MOB_OF_STAND.containsKey(stand.getId()) || !isAbove(stand, mob)) continue;
+                    double vertical = Math.abs(stand.getY() - top);
+                    double dx = mob.getX() - stand.getX();
+                    double dz = mob.getZ() - stand.getZ();
+                    double horizontalSq = dx * dx + dz * dz;
+                    if (vertical < bestVertical || (vertical == bestVertical && horizontalSq < bestHorizontalSq)) {
+                        best = stand;
+                        bestVertical = vertical;
+                        bestHorizontalSq = horizontalSq;
+                    }
+                }
+            }
+        }
+
+        if (best != null) {
+            pair(best, mob);
+        }
+    }
+
+    private static void pair(ArmorStandEntity stand, Entity mob) {
+        MOB_OF_STAND.put(stand.getId(), mob);
+        STAND_OF_MOB.put(mob.getId(), stand);
+        NAME_OF_MOB.put(mob.getId(), stand.getName().getString());
+        // The mob's classification depends on its nametag
+        SeaCreatureIndex.onNameChanged(mob);
+    }
+
+    private static void unpair(ArmorStandEntity stand) {
+        Entity mob = MOB_OF_STAND.remove(stand.getId());
+        if (mob == null) return;
+        STAND_OF_MOB.remove(mob.getId());
+        NAME_OF_MOB.remove(mob.getId());
+        SeaCreatureIndex.onNameChanged(mob);
+    }
+
+    private static boolean isAbove(ArmorStandEntity stand, Entity mob) {
+        double dx = mob.getX() - stand.getX();
+        double dz = mob.getZ() - stand.getZ();
+        if (dx * dx + dz * dz > HORIZONTAL_RANGE * HORIZONTAL_RANGE) return false;
+        double top = mob.getBoundingBox().maxY;
+        double y = stand.getY();
+        return y >= top - BELOW_TOP && y <= top + ABOVE_TOP;
+    }
+
+    private static void addToColumn(long key, ArmorStandEntity stand) {
+        List<ArmorStandEntity> column = COLUMNS.get(key);
+        if (column == null) {
+            column = new ArrayList<>(2);
+            COLUMNS.put(key, column);
+        }
+        column.add(stand);
+    }
+
+    private static void removeFromColumn(long key, ArmorStandEntity stand) {
+        List<ArmorStandEntity> column = COLUMNS.get(key);
+        if (column == null) return;
+        column.remove(stand);
+        if (column.isEmpty()) {
+            COLUMNS.remove(key);
+        }
+    }
+
+    private static long columnKey(double x, double z) {
+        return columnKey(MathHelper.floor(x), MathHelper.floor(z));
+    }
+
+    private static long columnKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
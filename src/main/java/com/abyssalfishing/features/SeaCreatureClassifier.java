@@ -0,0 +1,226 @@
+package com.abyssalfishing.features;
+
+import com.abyssalfishing.utils.NameMatcher;
+import it.unimi.dsi.fastutil.ints.Int2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.Ownable;
+import net.minecraft.entity.Tameable;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.mob.WaterCreatureEntity;
+import net.minecraft.entity.passive.AbstractHorseEntity;
+import net.minecraft.entity.passive.SquidEntity;
+import net.minecraft.entity.passive.TameableEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.world.World;
+
+/**
+ * Shared entity classification for FishingManager and SeaCreatureKiller.
+ * Sea creature names come from SeaCreatureRegistry, pet names from a built-in
+ * NameMatcher, and the identity-derived part of each verdict is cached per
+ * entity network id for the current registry generation
+ */
+public class SeaCreatureClassifier {
+    // Hypixel pet naming patterns ("[Lvl 100] ...")
+    private static final String[] PET_PATTERNS = { "pet", "[lvl", "level" };
+    private static final NameMatcher PET_NAMES = new NameMatcher(PET_PATTERNS);
+
+    // Common pet entity types are treated as pets when close to the player
+    private static final double PET_TYPE_RANGE_SQ = 15.0 * 15.0;
+
+    // Verdict bits; 0 means "not cached" (the map's default return value)
+    private static final byte COMPUTED = 1;
+    private static final byte PET_SIGNAL = 1 << 1;
+    private static final byte PET_TYPE = 1 << 2;
+    private static final byte WATER_CREATURE = 1 << 3;
+    private static final byte SQUID = 1 << 4;
+    private static final byte NAME_MATCH = 1 << 5;
+
+    // Entity network id -> verdict bits, valid for verdictWorld and verdictGeneration only
+    private static final Int2ByteOpenHashMap VERDICTS = new Int2ByteOpenHashMap();
+    // Entity network id -> registry priority of its best name match, filled alongside VERDICTS
+    private static final Int2IntOpenHashMap PRIORITIES = new Int2IntOpenHashMap();
+    private static World verdictWorld;
+    private static int verdictGeneration = -1;
+
+    /**
+     * True if the entity should be treated as a sea creature.
+     * Never true for anything that looks like a player pet
+     */
+    public static boolean isSeaCreature(Entity entity, PlayerEntity player, boolean killSquid) {
+        if (entity == null || !entity.isAlive() || entity.isRemoved()) {
+            return false;
+        }
+
+        // CRITICAL: Never attack player pets - this causes bans!
+        if (isPlayerPet(entity, player)) {
+            return false;
+        }
+
+        byte verdict = getVerdict(entity);
+
+        // Exclude regular squid if disabled
+        if ((verdict & SQUID) != 0 && !killSquid) {
+            return false;
+        }
+
+        return (verdict & (WATER_CREATURE | NAME_MATCH)) != 0;
+    }
+
+    /**
+     * Checks if entity is a player pet (to avoid attacking pets and getting banned)
+     * Uses multiple detection methods for maximum safety
+     */
+    public static boolean isPlayerPet(Entity entity, PlayerEntity player) {
+        if (entity == null || player == null) return false;
+
+        byte verdict = getVerdict(entity);
+
+        // Name patterns and pet nametags (cached)
+        if ((verdict & PET_SIGNAL) != 0) {
+            return true;
+        }
+
+        // Ownership and tame state can change at any time - always read them live
+        if (isOwned(entity)) {
+            return true;
+        }
+
+        // Common pet types - be extra careful, safe to assume it's a pet if close
+        return (verdict & PET_TYPE) != 0 && player.squaredDistanceTo(entity) < PET_TYPE_RANGE_SQ;
+    }
+
+    /**
+     * True if the entity's type or name marks it as a possible sea creature,
+     * before pet and config filtering (what SeaCreatureIndex keeps)
+     */
+    public static boolean isSeaCreatureCandidate(Entity entity) {
+        return (getVerdict(entity) & (WATER_CREATURE | NAME_MATCH)) != 0;
+    }
+
+    /**
+     * Registry priority of the entity's best matching name (0 if none matched)
+     */
+    public static int getPriority(Entity entity) {
+        getVerdict(entity);
+        return PRIORITIES.get(entity.getId());
+    }
+
+    /**
+     * True if the (possibly color-coded) name matches a sea creature pattern
+     */
+    public static boolean isSeaCreatureName(CharSequence name) {
+        return SeaCreatureRegistry.get().isSeaCreatureName(name);
+    }
+
+    /**
+     * True if the (possibly color-coded) name looks like a player pet
+     */
+    public static boolean isPetName(CharSequence name) {
+        return PET_NAMES.matchesAny(name);
+    }
+
+    /**
+     * Drops the cached verdict for an entity (removed, or its name changed)
+     */
+    public static void invalidate(Entity entity) {
+        if (entity.getWorld() == verdictWorld) {
+            VERDICTS.remove(entity.getId());
+            PRIORITIES.remove(entity.getId());
+        }
+    }
+
+    /**
+     * Drops every cached verdict (disconnect or world change)
+     */
+    public static void clear() {
+        VERDICTS.clear();
+        PRIORITIES.clear();
+        verdictWorld = null;
+    }
+
+    private static byte getVerdict(Entity entity) {
+        // Ids are only unique within one world
+        World world = entity.getWorld();
+        if (world != verdictWorld) {
+            VERDICTS.clear();
+            PRIORITIES.clear();
+            verdictWorld = world;
+        }
+        // Registry reloaded - every name verdict may have changed
+        int generation = SeaCreatureRegistry.get().getGeneration();
+        if (generation != verdictGeneration) {
+            VERDICTS.clear();
+            PRIORITIES.clear();
+            verdictGeneration = generation;
+        }
+
+        int id = entity.getId();
+        byte verdict = VERDICTS.get(id);
+        if (verdict == 0) {
+            verdict = computeVerdict(entity);
+            VERDICTS.put(id, verdict);
+        }
+        return verdict;
+    }
+
+    private static byte computeVerdict(Entity entity) {
+        byte verdict = COMPUTED;
+        String rawName = entity.getName().getString();
+        // Hypixel keeps the real name on a nametag armor stand above the mob
+        String nametag = NametagIndex.getNametag(entity);
+
+        if (isPetName(rawName) || (nametag != null && isPetName(nametag))) {
+            verdict |= PET_SIGNAL;
+        }
+        if (entity instanceof net.minecraft.entity.passive.WolfEntity ||
+            entity instanceof net.minecraft.entity.passive.CatEntity ||
+            entity instanceof net.minecraft.entity.passive.ParrotEntity ||
+            entity instanceof net.minecraft.entity.passive.HorseEntity ||
+            entity instanceof net.minecraft.entity.passive.LlamaEntity ||
+            entity instanceof net.minecraft.entity.passive.FoxEntity) {
+            verdict |= PET_TYPE;
+        }
+        if (entity instanceof WaterCreatureEntity) {
+            verdict |= WATER_CREATURE;
+        }
+        if (entity instanceof SquidEntity) {
+            verdict |= SQUID;
+        }
+        // Nametag stands carry the creature's name but are not the creature
+        if (!(entity instanceof ArmorStandEntity)) {
+            SeaCreatureRegistry registry = SeaCreatureRegistry.get();
+            SeaCreatureRegistry.Entry match = registry.lookup(rawName);
+            SeaCreatureRegistry.Entry nametagMatch = nametag != null ? registry.lookup(nametag) : null;
+            if (match == null || (nametagMatch != null && nametagMatch.priority() > match.priority())) {
+                match = nametagMatch;
+            }
+            if (match != null) {
+                verdict |= NAME_MATCH;
+                PRIORITIES.put(entity.getId(), match.priority());
+            }
+        }
+        return verdict;
+    }
+
+    /**
+     * Live ownership checks from synced entity data, the direct replacement for probing
+     * owner keys in the entity's NBT. Never cached: an entity can be tamed after it is
+     * first seen, and its owner may not be loaded on the client
+     */
+    static boolean isOwned(Entity entity) {
+        // If tamed, assume it's a pet (safer to skip all tamed entities)
+        if (entity instanceof TameableEntity tameable && tameable.isTamed()) {
+            return true;
+        }
+        // Horses, donkeys, mules, llamas and camels
+        if (entity instanceof AbstractHorseEntity horse && horse.isTame()) {
+            return true;
+        }
+        // The owner's UUID is synced even while the owner itself is not loaded
+        if (entity instanceof Tameable tameable && tameable.getOwnerReference() != null) {
+            return true;
+        }
+        return entity instanceof Ownable ownable && ownable.getOwner() != null;
+    }
+}
@@ -0,0 +1,187 @@
+package com.abyssalfishing.features;
+
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Live index of sea creature candidates, bucketed by chunk section.
+ * Fed by entity load/unload and name-change events, so creature searches
+ * only look at candidates near the query instead of scanning the world
+ */
+public class SeaCreatureIndex {
+    // Every indexed candidate, for the per-tick bucket refresh
+    private static final List<Entity> CANDIDATES = new ArrayList<>();
+    // Chunk section key -> candidates currently in that section
+    private static final Long2ObjectOpenHashMap<List<Entity>> SECTIONS = new Long2ObjectOpenHashMap<>();
+    // Entity id -> section key the entity is bucketed under
+    private static final Int2LongOpenHashMap SECTION_OF = new Int2LongOpenHashMap();
+    private static World indexWorld;
+    private static int indexGeneration = -1;
+
+    public static void onEntityLoad(Entity entity, World world) {
+        if (world != indexWorld) {
+            clear();
+            indexWorld = world;
+            indexGeneration = SeaCreatureRegistry.get().getGeneration();
+        }
+        if (SeaCreatureClassifier.isSeaCreatureCandidate(entity)) {
+            add(entity);
+        }
+    }
+
+    public static void onEntityUnload(Entity entity, World world) {
+        SeaCreatureClassifier.invalidate(entity);
+        if (world == indexWorld) {
+            remove(entity);
+        }
+    }
+
+    /**
+     * Custom name changed - reclassify and add or drop the entity accordingly
+     */
+    public static void onNameChanged(Entity entity) {
+        SeaCreatureClassifier.invalidate(entity);
+        if (entity.getWorld() != indexWorld) return;
+
+        boolean indexed = SECTION_OF.containsKey(entity.getId());
+        boolean candidate = !entity.isRemoved() && SeaCreatureClassifier.isSeaCreatureCandidate(entity);
+        if (candidate && !indexed) {
+            add(entity);
+        } else if (!candidate && indexed) {
+            remove(entity);
+        }
+    }
+
+    /**
+     * Re-buckets candidates that crossed a section boundary. O(candidates), called once per tick
+     */
+    public static void tick() {
+        if (SeaCreatureRegistry.get().getGeneration() != indexGeneration) {
+            rebuild();
+            return;
+        }
+        for (int i = CANDIDATES.size() - 1; i >= 0; i--) {
+            Entity entity = CANDIDATES.get(i);
+            if (entity.isRemoved()) {
+                // Normally handled by the unload event; guard against missed events
+                remove(entity);
+                continue;
+            }
+            long key = sectionKey(entity);
+            long previous = SECTION_OF.get(entity.getId());
+            if (key != previous) {
+                removeFromSection(previous, entity);
+                addToSection(key, entity);
+                SECTION_OF.put(entity.getId(), key);
+            }
+        }
+    }
+
+    /**
+     * Adds every indexed candidate whose position lies in the given bounds to {@code out}
+     * (not cleared first). Only the chunk sections overlapping the bounds are visited
+     */
+    public static void collect(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, List<Entity> out) {
+        if (CANDIDATES.isEmpty()) return;
+
+        int minSectionX = ChunkSectionPos.getSectionCoord(minX);
+        int minSectionY = ChunkSectionPos.getSectionCoord(minY);
+        int minSectionZ = ChunkSectionPos.getSectionCoord(minZ);
+        int maxSectionX = ChunkSectionPos.getSectionCoord(maxX);
+        int maxSectionY = ChunkSectionPos.getSectionCoord(maxY);
+        int maxSectionZ = ChunkSectionPos.getSectionCoord(maxZ);
+
+        for (int sx = minSectionX; sx <= maxSectionX; sx++) {
+            for (int sy = minSectionY; sy <= maxSectionY; sy++) {
+                for (int sz = minSectionZ; sz <= maxSectionZ; sz++) {
+                    List<Entity> bucket = SECTIONS.get(ChunkSectionPos.asLong(sx, sy, sz));
+                    if (bucket == null) continue;
+                    for (int i = 0; i < bucket.size(); i++) {
+                        Entity entity = bucket.get(i);
+                        double x = entity.getX();
+                        double y = entity.getY();
+                        double z = entity.getZ();
+                        if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ) {
+                            out.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Re-collects candidates from every loaded entity after a registry reload
+     */
+    private static void rebuild() {
+        indexGeneration = SeaCreatureRegistry.get().getGeneration();
+        CANDIDATES.clear();
+        SECTIONS.clear();
+        SECTION_OF.clear();
+        if (!(indexWorld instanceof ClientWorld world)) return;
+        for (Entity entity : world.getEntities()) {
+            if (!entity.isRemoved() && SeaCreatureClassifier.isSeaCreatureCandidate(entity)) {
+                add(entity);
+            }
+        }
+    }
+
+    public static int size() {
+        return CANDIDATES.size();
+    }
+
+    public static void clear() {
+        CANDIDATES.clear();
+        SECTIONS.clear();
+        SECTION_OF.clear();
+        indexWorld = null;
+    }
+
+    private static void add(Entity entity) {
+        if (SECTION_OF.containsKey(entity.getId())) return;
+        long key = sectionKey(entity);
+        CANDIDATES.add(entity);
+        addToSection(key, entity);
+        SECTION_OF.put(entity.getId(), key);
+    }
+
+    private static void remove(Entity entity) {
+        if (!SECTION_OF.containsKey(entity.getId())) return;
+        long key = SECTION_OF.remove(entity.getId());
+        removeFromSection(key, entity);
+        CANDIDATES.remove(entity);
+    }
+
+    private static void addToSection(long key, Entity entity) {
+        List<Entity> bucket = SECTIONS.get(key);
+        if (bucket == null) {
+            bucket = new ArrayList<>(4);
+            SECTIONS.put(key, bucket);
+        }
+        bucket.add(entity);
+    }
+
+    private static void removeFromSection(long key, Entity entity) {
+        List<Entity> bucket = SECTIONS.get(key);
+        if (bucket == null) return;
+        bucket.remove(entity);
+        if (bucket.isEmpty()) {
+            SECTIONS.remove(key);
+        }
+    }
+
+    private static long sectionKey(Entity entity) {
+        return ChunkSectionPos.asLong(
+            ChunkSectionPos.getSectionCoord(entity.getBlockX()),
+            ChunkSectionPos.getSectionCoord(entity.getBlockY()),
+            ChunkSectionPos.getSectionCoord(entity.getBlockZ())
+        );
+    }
+}
@@ -2,33 +2,36 @@ package com.abyssalfishing.features;
 
 import com.abyssalfishing.AbyssalFishing;
 import com.abyssalfishing.config.AbyssalConfig;
+import com.abyssalfishing.config.ConfigSnapshot;
+import com.abyssalfishing.core.ActionScheduler;
+import com.abyssalfishing.jfr.AttackEvent;
+import com.abyssalfishing.jfr.CreatureScanEvent;
+import com.abyssalfishing.jfr.FishingEvents;
 import com.abyssalfishing.utils.InventoryUtils;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.mob.WaterCreatureEntity;
-import net.minecraft.entity.passive.SquidEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 public class SeaCreatureKiller {
     private final MinecraftClient client;
     private final AbyssalConfig config;
+    // Config values for the current tick, handed over by FishingManager
+    private ConfigSnapshot settings;
     
     private boolean isKilling;
     private Entity targetEntity;
     private long lastAttackTime;
     private int attackCount;
     private float lastKnownHealth;
-    private long lastHealthCheck;
     private boolean isMovingToTarget;
-    private long lastMovementUpdate;
-    private long lastRotationUpdate;
     
     // Position saving for return after killing
     private Vec3d savedPosition;
@@ -37,6 +40,7 @@ public class SeaCreatureKiller {
     private boolean hasSavedPosition;
     
     private static final double ATTACK_RANGE = 4.0;
+    private final List<Entity> candidateBuffer = new ArrayList<>(); // Reused by shouldKill
     private static final double PATHFINDING_RANGE = 8.0; // Start pathfinding if further than this
     private static final double MIN_DISTANCE = 3.0; // Stop moving when this close
     private static final long ATTACK_COOLDOWN_BASE = 400; // Base attack cooldown (ms)
@@ -47,16 +51,28 @@ public class SeaCreatureKiller {
     
     // Humanization variables
     private float currentRotationSpeed = 0.2f; // Dynamic rotation speed (varies)
-    private long lastRotationSpeedChange = 0;
     private static final long ROTATION_SPEED_CHANGE_INTERVAL = 1000; // Change rotation speed every 1s
     private long nextAttackTime = 0; // Calculated attack time with variance
     private boolean isSprinting = false; // Natural sprinting
-    private long lastSprintToggle = 0;
     private static final long SPRINT_TOGGLE_INTERVAL = 2000; // Toggle sprint every 2s
     
-    public SeaCreatureKiller() {
+    // Delayed attacks run on the scheduler instead of sleeping on the client thread
+    private final ActionScheduler scheduler;
+    private final Runnable attackAction = this::performAttack;
+    private long pendingAttack = ActionScheduler.NONE;
+    // Periodic work while killing, and while walking back afterwards
+    private long rotationTask = ActionScheduler.NONE;
+    private long rotationSpeedTask = ActionScheduler.NONE;
+    private long sprintTask = ActionScheduler.NONE;
+    private long movementTask = ActionScheduler.NONE;
+    private long healthCheckTask = ActionScheduler.NONE;
+    private long returnTask = ActionScheduler.NONE;
+    
+    public SeaCreatureKiller(ActionScheduler scheduler) {
         this.client = MinecraftClient.getInstance();
+        this.scheduler = scheduler;
         this.config = AbyssalFishing.config;
+        this.settings = config.snapshot();
         this.isKilling = false;
         this.attackCount = 0;
     }
@@ -64,12 +80,7 @@ public class SeaCreatureKiller {
     public void update() {
         if (client.player == null) return;
         
-        // If returning to position (after killing), handle that first
-        if (hasSavedPosition && savedPosition != null && !isKilling) {
-            returnToSavedPosition();
-            return;
-        }
-        
+        // Returning to position (after killing) runs on the scheduler, see stopKilling
         if (!isKilling || targetEntity == null) {
             return;
         }
@@ -92,40 +103,9 @@ public class SeaCreatureKiller {
         
         long currentTime = System.currentTimeMillis();
         
-        // Update rotation speed occasionally for natural variation
-        if (currentTime - lastRotationSpeedChange > ROTATION_SPEED_CHANGE_INTERVAL) {
-            // Vary rotation speed between 0.15 and 0.3 for natural feel
-            currentRotationSpeed = 0.15f + (float)(Math.random() * 0.15f);
-            lastRotationSpeedChange = currentTime;
-        }
-        
-        // AUTO-ROTATE: Always rotate towards target (smooth and natural)
-        if (currentTime - lastRotationUpdate > ROTATION_UPDATE_INTERVAL) {
-            rotateTowardsTarget();
-            lastRotationUpdate = currentTime;
-        }
-        
-        // Natural sprinting (toggle occasionally)
-        if (currentTime - lastSprintToggle > SPRINT_TOGGLE_INTERVAL) {
-            if (distance > ATTACK_RANGE && Math.random() > 0.3) { // 70% chance to sprint when far
-                isSprinting = !isSprinting;
-                if (client.player != null) {
-                    client.player.setSprinting(isSprinting);
-                }
-            }
-            lastSprintToggle = currentTime;
-        }
-        
-        // Pathfinding: Move towards target if too far (with natural pauses)
-        if (distance > ATTACK_RANGE && distance <= PATHFINDING_RANGE) {
-            // Occasionally pause movement for natural feel (5% chance)
-            if (Math.random() > 0.05) {
-                if (currentTime - lastMovementUpdate > MOVEMENT_UPDATE_INTERVAL) {
-                    moveTowardsTarget();
-                    lastMovementUpdate = currentTime;
-                }
-            }
-        } else if (distance <= MIN_DISTANCE) {
+        // Rotation, sprinting, pathfinding and health tracking run as periodic scheduler tasks
+        // (registered in startKilling); only the close-range stop is checked every tick
+        if (distance <= MIN_DISTANCE) {
             // Stop moving if too close
             stopMovement();
             if (client.player != null) {
@@ -133,21 +113,6 @@ public class SeaCreatureKiller {
             }
         }
         
-        // Track health to detect if creature is dying
-        if (currentTime - lastHealthCheck > HEALTH_CHECK_INTERVAL) {
-            try {
-                float currentHealth = getEntityHealth(targetEntity);
-                if (lastKnownHealth > 0 && currentHealth >= lastKnownHealth && attackCount > 5) {
-                    // Health not decreasing after multiple attacks - might need different strategy
-                    AbyssalFishing.LOGGER.debug("Health not decreasing, trying different attack");
-                }
-                lastKnownHealth = currentHealth;
-                lastHealthCheck = currentTime;
-            } catch (Exception e) {
-                // Health check failed, continue anyway
-            }
-        }
-        
         // Attack the creature (with natural timing variance)
         if (distance <= ATTACK_RANGE || isMovingToTarget) {
             if (nextAttackTime == 0 || currentTime >= nextAttackTime) {
@@ -255,29 +220,45 @@ public class SeaCreatureKiller {
     }
     
     public boolean shouldKill() {
-        if (!config.killSeaCreatures || client.player == null || client.world == null) {
+        if (!settings.killSeaCreatures() || client.player == null || client.world == null) {
             return false;
         }
         
-        // Find nearby sea creatures - convert Iterable to List manually
-        List<Entity> nearbyEntities = new java.util.ArrayList<>();
-        for (Entity entity : client.world.getEntities()) {
-            if (isSeaCreature(entity) && entity.isAlive() && !entity.isRemoved() && 
-                client.player.distanceTo(entity) <= ATTACK_RANGE) {
-                nearbyEntities.add(entity);
-            }
+        // Find nearby sea creatures from the live candidate index (no world scan)
+        double x = client.player.getX();
+        double y = client.player.getY();
+        double z = client.player.getZ();
+        CreatureScanEvent scanEvent = FishingEvents.beginCreatureScan("shouldKill");
+        candidateBuffer.clear();
+        SeaCreatureIndex.collect(x - ATTACK_RANGE, y - ATTACK_RANGE, z - ATTACK_RANGE,
+            x + ATTACK_RANGE, y + ATTACK_RANGE, z + ATTACK_RANGE, candidateBuffer);
+        
+        // Single pass: nearest (or best-scoring, see TargetSelector) creature in range
+        Entity found = TargetSelector.select(candidateBuffer, client.player, ATTACK_RANGE * ATTACK_RANGE, settings);
+        if (scanEvent != null) {
+            scanEvent.candidates = candidateBuffer.size();
+            scanEvent.found = found != null;
+            scanEvent.commit();
         }
+        candidateBuffer.clear();
         
-        if (!nearbyEntities.isEmpty()) {
-            targetEntity = nearbyEntities.get(0); // Target closest creature
+        if (found != null) {
+            targetEntity = found;
             return true;
         }
         
         return false;
     }
     
+    /**
+     * Sets the config snapshot used until the next tick
+     */
+    public void useSettings(ConfigSnapshot settings) {
+        this.settings = settings;
+    }
+    
     public void startKilling(Entity entity) {
-        if (!config.killSeaCreatures) return;
+        if (!settings.killSeaCreatures()) return;
         if (entity == null || !entity.isAlive()) return;
         
         // SAVE POSITION before starting to kill (for return after killing)
@@ -295,17 +276,22 @@ public class SeaCreatureKiller {
         this.lastAttackTime = 0;
         this.nextAttackTime = 0; // Reset attack timing
         this.lastKnownHealth = getEntityHealth(entity);
-        this.lastHealthCheck = System.currentTimeMillis();
         
         // Initialize rotation speed
         this.currentRotationSpeed = 0.15f + (float)(Math.random() * 0.15f);
-        this.lastRotationSpeedChange = System.currentTimeMillis();
         
         // Initialize sprint state
         this.isSprinting = false;
-        this.lastSprintToggle = System.currentTimeMillis();
         
-        AbyssalFishing.LOGGER.info("Started killing sea creature: " + stripColorCodes(entity.getName().getString()) + " (HP: " + String.format("%.1f", lastKnownHealth) + ")");
+        // Register the periodic work for this kill
+        cancelScheduledWork();
+        rotationTask = scheduler.schedulePeriodic(ROTATION_UPDATE_INTERVAL, this::rotateTowardsTarget);
+        rotationSpeedTask = scheduler.schedulePeriodic(ROTATION_SPEED_CHANGE_INTERVAL, this::updateRotationSpeed);
+        sprintTask = scheduler.schedulePeriodic(SPRINT_TOGGLE_INTERVAL, this::updateSprinting);
+        movementTask = scheduler.schedulePeriodic(MOVEMENT_UPDATE_INTERVAL, this::updateMovement);
+        healthCheckTask = scheduler.schedulePeriodic(HEALTH_CHECK_INTERVAL, this::checkTargetHealth);
+        
+        AbyssalFishing.LOGGER.info("Started killing sea creature: " + stripColorCodes(NametagIndex.getDisplayName(entity)) + " (HP: " + String.format("%.1f", lastKnownHealth) + ")");
     }
     
     public void stopKilling() {
@@ -315,6 +301,7 @@ public class SeaCreatureKiller {
         this.lastKnownHealth = 0;
         this.isMovingToTarget = false;
         this.nextAttackTime = 0;
+        cancelScheduledWork();
         
         // Stop sprinting
         if (client.player != null) {
@@ -324,14 +311,26 @@ public class SeaCreatureKiller {
         // RETURN TO SAVED POSITION after killing
         if (hasSavedPosition && savedPosition != null && client.player != null) {
             returnToSavedPosition();
+            if (hasSavedPosition) {
+                returnTask = scheduler.schedulePeriodic(RETURN_UPDATE_INTERVAL, this::updateReturn);
+            }
         }
         
         AbyssalFishing.LOGGER.debug("Stopped killing sea creature");
     }
     
-    private long lastReturnUpdate = 0;
     private static final long RETURN_UPDATE_INTERVAL = 50; // Update return movement every 50ms
     
+    private void updateReturn() {
+        if (!isKilling && hasSavedPosition && savedPosition != null) {
+            returnToSavedPosition();
+        }
+        if (isKilling || !hasSavedPosition) {
+            scheduler.cancel(returnTask);
+            returnTask = ActionScheduler.NONE;
+        }
+    }
+    
     /**
      * Returns player to saved fishing position after killing sea creature
      * Called repeatedly until player returns to position (natural movement)
@@ -339,12 +338,6 @@ public class SeaCreatureKiller {
     private void returnToSavedPosition() {
         if (client.player == null || savedPosition == null) return;
         
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastReturnUpdate < RETURN_UPDATE_INTERVAL) {
-            return;
-        }
-        lastReturnUpdate = currentTime;
-        
         Vec3d currentPos = client.player.getPos();
         double distance = currentPos.distanceTo(savedPosition);
         
@@ -420,29 +413,116 @@ public class SeaCreatureKiller {
         
         // Small random delay before attack (human reaction time simulation)
         if (Math.random() > 0.7) { // 30% chance for small delay
-            try {
-                Thread.sleep((long)(Math.random() * 30)); // 0-30ms delay
-            } catch (InterruptedException e) {
-                // Ignore
+            if (pendingAttack == ActionScheduler.NONE) {
+                pendingAttack = scheduler.schedule((long)(Math.random() * 30), attackAction); // 0-30ms delay
             }
+            return;
         }
         
+        performAttack();
+    }
+    
+    /**
+     * Cancels the delayed attack and every periodic task (killing and returning)
+     */
+    public void cancelScheduledWork() {
+        scheduler.cancel(pendingAttack);
+        scheduler.cancel(rotationTask);
+        scheduler.cancel(rotationSpeedTask);
+        scheduler.cancel(sprintTask);
+        scheduler.cancel(movementTask);
+        scheduler.cancel(healthCheckTask);
+        scheduler.cancel(returnTask);
+        pendingAttack = ActionScheduler.NONE;
+        rotationTask = ActionScheduler.NONE;
+        rotationSpeedTask = ActionScheduler.NONE;
+        sprintTask = ActionScheduler.NONE;
+        movementTask = ActionScheduler.NONE;
+        healthCheckTask = ActionScheduler.NONE;
+        returnTask = ActionScheduler.NONE;
+    }
+    
+    private boolean hasLiveTarget() {
+        return isKilling && client.player != null && targetEntity != null &&
+            targetEntity.isAlive() && !targetEntity.isRemoved();
+    }
+    
+    private void updateRotationSpeed() {
+        // Vary rotation speed between 0.15 and 0.3 for natural feel
+        currentRotationSpeed = 0.15f + (float)(Math.random() * 0.15f);
+    }
+    
+    private void updateSprinting() {
+        if (!hasLiveTarget()) return;
+        // Natural sprinting (toggle occasionally)
+        if (client.player.distanceTo(targetEntity) > ATTACK_RANGE && Math.random() > 0.3) { // 70% chance to sprint when far
+            isSprinting = !isSprinting;
+            client.player.setSprinting(isSprinting);
+        }
+    }
+    
+    private void updateMovement() {
+        if (!hasLiveTarget()) return;
+        // Pathfinding: Move towards target if too far (with natural pauses)
+        double distance = client.player.distanceTo(targetEntity);
+        if (distance > ATTACK_RANGE && distance <= PATHFINDING_RANGE) {
+            // Occasionally pause movement for natural feel (5% chance)
+            if (Math.random() > 0.05) {
+                moveTowardsTarget();
+            }
+        }
+    }
+    
+    private void checkTargetHealth() {
+        if (!hasLiveTarget()) return;
+        // Track health to detect if creature is dying
+        try {
+            float currentHealth = getEntityHealth(targetEntity);
+            if (lastKnownHealth > 0 && currentHealth >= lastKnownHealth && attackCount > 5) {
+                // Health not decreasing after multiple attacks - might need different strategy
+                AbyssalFishing.LOGGER.debug("Health not decreasing, trying different attack");
+            }
+            lastKnownHealth = currentHealth;
+        } catch (Exception e) {
+            // Health check failed, continue anyway
+        }
+    }
+    
+    private void performAttack() {
+        pendingAttack = ActionScheduler.NONE;
+        // The target may have died or been dropped while the attack was delayed
+        if (!isKilling || client.player == null || targetEntity == null) return;
+        
         ItemStack mainHand = client.player.getMainHandStack();
         
         // Determine attack method
+        String method;
         if (isMageWeapon(mainHand)) {
             useMageAbility();
+            method = "mage";
         } else if (isWeapon(mainHand)) {
             useMeleeAttack();
+            method = "melee";
         } else {
             // Fallback to basic attack
             useBasicAttack();
+            method = "basic";
         }
         
         lastAttackTime = System.currentTimeMillis();
         attackCount++;
         
-        if (config.playSounds) {
+        if (FishingEvents.attackEnabled()) {
+            AttackEvent event = new AttackEvent();
+            event.method = method;
+            event.target = stripColorCodes(NametagIndex.getDisplayName(targetEntity));
+            event.targetHealth = getTargetHealth();
+            event.distance = getTargetDistance();
+            event.attackCount = attackCount;
+            event.commit();
+        }
+        
+        if (settings.playSounds()) {
             // Play attack sound
         }
     }
@@ -486,140 +566,6 @@ public class SeaCreatureKiller {
         useMeleeAttack();
     }
     
-    private boolean isSeaCreature(Entity entity) {
-        if (entity == null || !entity.isAlive() || entity.isRemoved()) {
-            return false;
-        }
-        
-        // CRITICAL: Never attack player pets - this causes bans!
-        if (isPlayerPet(entity)) {
-            return false;
-        }
-        
-        // Check if entity is a sea creature (but not squid if disabled)
-        if (entity instanceof SquidEntity && !config.killSquid) {
-            return false;
-        }
-        
-        // Check if it's a water creature or has specific naming patterns
-        if (entity instanceof WaterCreatureEntity) {
-            return true;
-        }
-        
-        // Parse entity name (remove color codes for Hypixel compatibility)
-        String rawName = entity.getName().getString();
-        String cleanName = stripColorCodes(rawName).toLowerCase();
-        
-        // Hypixel-specific sea creature patterns
-        return cleanName.contains("guardian") ||
-               cleanName.contains("squid") ||
-               cleanName.contains("hydra") ||
-               cleanName.contains("shark") ||
-               cleanName.contains("sea walker") ||
-               cleanName.contains("sea guardian") ||
-               cleanName.contains("sea witch") ||
-               cleanName.contains("sea archer") ||
-               cleanName.contains("sea leech") ||
-               cleanName.contains("frozen steve") ||
-               cleanName.contains("night squid") ||
-               cleanName.contains("water hydra") ||
-               cleanName.contains("deep sea") ||
-               cleanName.contains("frost walker") ||
-               cleanName.contains("yeti") ||
-               cleanName.contains("reindrake") ||
-               cleanName.contains("emperor") ||
-               cleanName.contains("lord jawbus") ||
-               cleanName.contains("great white") ||
-               cleanName.contains("nurse shark") ||
-               cleanName.contains("blue shark") ||
-               cleanName.contains("tiger shark") ||
-               cleanName.contains("revenant horror") ||
-               cleanName.contains("terror") ||
-               cleanName.contains("phantom fisher") ||
-               cleanName.contains("grim reaper") ||
-               cleanName.contains("sea") ||
-               cleanName.contains("water") ||
-               cleanName.contains("deep") ||
-               cleanName.contains("abyss") ||
-               cleanName.contains("fisher") ||
-               cleanName.contains("meg") ||
-               (cleanName.contains("fish") && !cleanName.contains("fishing"));
-    }
-    
-    /**
-     * Checks if entity is a player pet (to avoid attacking pets and getting banned)
-     * Uses multiple detection methods for maximum safety
-     */
-    private boolean isPlayerPet(Entity entity) {
-        if (entity == null || client.player == null) return false;
-        
-        // Method 1: Check entity name for pet indicators
-        String rawName = entity.getName().getString();
-        String cleanName = stripColorCodes(rawName).toLowerCase();
-        
-        // Hypixel pet naming patterns
-        if (cleanName.contains("pet") || 
-            cleanName.contains("[lvl") ||
-            cleanName.contains("level") ||
-            cleanName.matches(".*\\[lvl\\s*\\d+\\].*")) {
-            AbyssalFishing.LOGGER.debug("Detected pet by name: " + rawName);
-            return true;
-        }
-        
-        // Method 2: Check if entity is tamed (oswojone)
-        if (entity instanceof net.minecraft.entity.passive.TameableEntity tameable) {
-            if (tameable.isTamed()) {
-                // If tamed, assume it's a pet (safer to skip all tamed entities)
-                AbyssalFishing.LOGGER.debug("Detected tamed entity (skipping): " + rawName);
-                return true;
-            }
-        }
-        
-        // Method 3: Check NBT data for pet tags (Hypixel-specific)
-        try {
-            net.minecraft.nbt.NbtCompound nbt = entity.writeNbt(new net.minecraft.nbt.NbtCompound());
-            if (nbt != null) {
-                // Check for pet-related tags
-                if (nbt.contains("Pet") || 
-                    nbt.contains("pet") ||
-                    nbt.contains("OwnerUUID") ||
-                    nbt.contains("ownerUUID") ||
-                    nbt.contains("OwnerName") ||
-                    nbt.contains("ownerName")) {
-                    return true;
-                }
-                
-                // If OwnerUUID tag exists, assume it's a pet
-                // (UUID reading method not available in this version, but tag presence is enough)
-                if (nbt.contains("OwnerUUID") || nbt.contains("ownerUUID")) {
-                    return true;
-                }
-            }
-        } catch (Exception e) {
-            // NBT check failed, continue with other checks
-        }
-        
-        // Method 4: Check if entity is following player (pet behavior)
-        // Skip this check as getTarget() method is not available in this version
-        // Rely on other detection methods instead
-        
-        // Method 5: Check for common pet entity types that shouldn't be attacked
-        if (entity instanceof net.minecraft.entity.passive.WolfEntity ||
-            entity instanceof net.minecraft.entity.passive.CatEntity ||
-            entity instanceof net.minecraft.entity.passive.ParrotEntity ||
-            entity instanceof net.minecraft.entity.passive.HorseEntity ||
-            entity instanceof net.minecraft.entity.passive.LlamaEntity ||
-            entity instanceof net.minecraft.entity.passive.FoxEntity) {
-            // These are common pet types - be extra careful
-            double distance = client.player.distanceTo(entity);
-            if (distance < 15.0) {
-                return true; // Safe to assume it's a pet if close
-            }
-        }
-        
-        return false;
-    }
-    
     /**
      * Removes Minecraft color codes (§) and formatting from text
      * This is important for Hypixel where entity names have color formatting
@@ -0,0 +1,213 @@
+package com.abyssalfishing.features;
+
+import com.abyssalfishing.AbyssalFishing;
+import com.abyssalfishing.config.ConfigWatcher;
+import com.abyssalfishing.utils.NameMatcher;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable, compiled sea creature list loaded from config/abyssalfishing-sea-creatures.json.
+ * The current registry is published through a volatile reference and replaced wholesale
+ * when the file changes, so readers never see a half-built registry
+ */
+public class SeaCreatureRegistry {
+    public static final String FILE_NAME = "abyssalfishing-sea-creatures.json";
+    private static final Path FILE = Paths.get("config", FILE_NAME);
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * One registry entry. {@code name} is matched as a case-insensitive substring of entity
+     * and nametag names. An {@code exclude} entry is a longer word that stops the shorter
+     * patterns inside it from matching (e.g. "fishing" keeps "fish" from matching)
+     */
+    public record Entry(String name, double baseHp, int priority, boolean exclude) {}
+
+    private record RegistryFile(List<Entry> creatures) {}
+
+    // Built-in list, also written out as the initial config file
+    private static final Entry[] DEFAULTS = {
+        creature("guardian"), creature("squid"), creature("hydra"), creature("shark"),
+        creature("sea walker"), creature("sea guardian"), creature("sea witch"), creature("sea archer"), creature("sea leech"),
+        creature("frozen steve"), creature("night squid"), creature("water hydra"), creature("deep sea"), creature("frost walker"),
+        creature("yeti"), creature("reindrake"), creature("emperor"), creature("lord jawbus"),
+        creature("great white"), creature("nurse shark"), creature("blue shark"), creature("tiger shark"),
+        creature("revenant horror"), creature("terror"), creature("phantom fisher"), creature("grim reaper"),
+        // Broad fallbacks for unlisted creatures
+        fallback("sea"), fallback("water"), fallback("deep"), fallback("abyss"), fallback("fisher"), fallback("meg"),
+        fallback("fish"),
+        new Entry("fishing", 0, 0, true)
+    };
+
+    private static volatile SeaCreatureRegistry current = new SeaCreatureRegistry(List.of(DEFAULTS), 0);
+
+    // Compiled lookup. Exclude entries come first so they all live in matchers[0]
+    private final Entry[] entries;
+    private final NameMatcher[] matchers;
+    private final int excludeCount;
+    // Per exclude entry, per matcher: bits of the include entries it suppresses
+    private final long[][] suppresses;
+    private final int generation;
+
+    private SeaCreatureRegistry(List<Entry> source, int generation) {
+        List<Entry> excludes = new ArrayList<>();
+        List<Entry> includes = new ArrayList<>();
+        for (Entry entry : source) {
+            Entry normalized = normalize(entry);
+            if (normalized == null) continue;
+            (normalized.exclude() ? excludes : includes).add(normalized);
+        }
+        if (excludes.size() > NameMatcher.MAX_PATTERNS) {
+            AbyssalFishing.LOGGER.warn("Only the first " + NameMatcher.MAX_PATTERNS + " sea creature exclude entries are used");
+            excludes = excludes.subList(0, NameMatcher.MAX_PATTERNS);
+        }
+
+        List<Entry> ordered = new ArrayList<>(excludes);
+        ordered.addAll(includes);
+        this.entries = ordered.toArray(new Entry[0]);
+        this.excludeCount = excludes.size();
+        this.generation = generation;
+
+        int matcherCount = Math.max(1, (entries.length + NameMatcher.MAX_PATTERNS - 1) / NameMatcher.MAX_PATTERNS);
+        this.matchers = new NameMatcher[matcherCount];
+        for (int m = 0; m < matcherCount; m++) {
+            int from = m * NameMatcher.MAX_PATTERNS;
+            int to = Math.min(entries.length, from + NameMatcher.MAX_PATTERNS);
+            String[] patterns = new String[Math.max(0, to - from)];
+            for (int i = from; i < to; i++) {
+                patterns[i - from] = entries[i].name();
+            }
+            matchers[m] = new NameMatcher(patterns);
+        }
+
+        this.suppresses = new long[excludeCount][matcherCount];
+        for (int e = 0; e < excludeCount; e++) {
+            for (int i = excludeCount; i < entries.length; i++) {
+                if (entries[e].name().contains(entries[i].name())) {
+                    suppresses[e][i / NameMatcher.MAX_PATTERNS] |= 1L << (i % NameMatcher.MAX_PATTERNS);
+                }
+            }
+        }
+    }
+
+    public static SeaCreatureRegistry get() {
+        return current;
+    }
+
+    /**
+     * Loads the registry file (writing the defaults if it is missing) and starts watching it
+     */
+    public static void initialize() {
+        if (!Files.exists(FILE)) {
+            writeDefaults();
+        }
+        reload();
+        ConfigWatcher.watch(FILE_NAME, SeaCreatureRegistry::reload);
+    }
+
+    /**
+     * Recompiles the registry from disk and publishes it. Keeps the current one if the file is invalid
+     */
+    public static void reload() {
+        try (Reader reader = Files.newBufferedReader(FILE, StandardCharsets.UTF_8)) {
+            RegistryFile file = GSON.fromJson(reader, RegistryFile.class);
+            if (file == null || file.creatures() == null) {
+                AbyssalFishing.LOGGER.warn("Sea creature registry " + FILE + " has no \"creatures\" list, keeping current registry");
+                return;
+            }
+            SeaCreatureRegistry registry = new SeaCreatureRegistry(file.creatures(), current.generation + 1);
+            current = registry;
+            AbyssalFishing.LOGGER.info("Sea creature registry loaded: " + registry.entries.length + " entries (generation " + registry.generation + ")");
+        } catch (IOException | JsonParseException e) {
+            AbyssalFishing.LOGGER.error("Failed to load sea creature registry, keeping current registry", e);
+        }
+    }
+
+    /**
+     * Highest-priority entry matching the (possibly color-coded) name, or null if none does
+     */
+    public Entry lookup(CharSequence name) {
+        if (name == null) return null;
+
+        long first = matchers[0].match(name);
+        long excludeBits = excludeMask(excludeCount);
+        long excluded = first & excludeBits;
+        Entry best = null;
+        for (int m = 0; m < matchers.length; m++) {
+            long found = m == 0 ? first & ~excludeBits : matchers[m].match(name);
+            for (long bits = excluded; bits != 0; bits &= bits - 1) {
+                found &= ~suppresses[Long.numberOfTrailingZeros(bits)][m];
+            }
+            for (; found != 0; found &= found - 1) {
+                Entry entry = entries[m * NameMatcher.MAX_PATTERNS + Long.numberOfTrailingZeros(found)];
+                if (best == null || entry.priority() > best.priority()) {
+                    best = entry;
+                }
+            }
+        }
+        return best;
+    }
+
+    public boolean isSeaCreatureName(CharSequence name) {
+        return lookup(name) != null;
+    }
+
+    /**
+     * Incremented on every reload; caches built from an older registry compare against it
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    public int size() {
+        return entries.length - excludeCount;
+    }
+
+    private static long excludeMask(int count) {
+        return count >= 64 ? -1L : (1L << count) - 1;
+    }
+
+    private static Entry normalize(Entry entry) {
+        if (entry == null || entry.name() == null || entry.name().isBlank()) {
+            AbyssalFishing.LOGGER.warn("Skipping sea creature entry without a name");
+            return null;
+        }
+        String name = entry.name().trim().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) >= 128) {
+                AbyssalFishing.LOGGER.warn("Skipping sea creature entry with non-ASCII name: " + entry.name());
+                return null;
+            }
+        }
+        return new Entry(name, entry.baseHp(), entry.priority(), entry.exclude());
+    }
+
+    private static void writeDefaults() {
+        try {
+            Files.createDirectories(FILE.getParent());
+            Files.writeString(FILE, GSON.toJson(new RegistryFile(List.of(DEFAULTS))), StandardCharsets.UTF_8);
+            AbyssalFishing.LOGGER.info("Wrote default sea creature registry to " + FILE);
+        } catch (IOException e) {
+            AbyssalFishing.LOGGER.error("Failed to write default sea creature registry", e);
+        }
+    }
+
+    private static Entry creature(String name) {
+        return new Entry(name, 0, 1, false);
+    }
+
+    private static Entry fallback(String name) {
+        return new Entry(name, 0, 0, false);
+    }
+}
@@ -0,0 +1,53 @@
+package com.abyssalfishing.features;
+
+import com.abyssalfishing.config.ConfigSnapshot;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+
+import java.util.List;
+
+/**
+ * Picks the sea creature to go after from a candidate list in one pass, keeping
+ * only the best so far. Lower score wins:
+ * distanceWeight * squared distance + healthWeight * current HP - priorityWeight * registry priority.
+ * The default weights (1, 0, 0) select the nearest creature
+ */
+public class TargetSelector {
+
+    /**
+     * Best sea creature in {@code candidates} within {@code maxDistanceSq} of the player, or null
+     */
+    public static Entity select(List<Entity> candidates, PlayerEntity player, double maxDistanceSq, ConfigSnapshot settings) {
+        if (player == null) return null;
+
+        double distanceWeight = settings.targetDistanceWeight();
+        double healthWeight = settings.targetHealthWeight();
+        double priorityWeight = settings.targetPriorityWeight();
+
+        Entity best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            Entity entity = candidates.get(i);
+            if (entity == player) continue;
+
+            double distanceSq = player.squaredDistanceTo(entity);
+            if (distanceSq > maxDistanceSq) continue;
+            if (!SeaCreatureClassifier.isSeaCreature(entity, player, settings.killSquid())) continue;
+
+            double score = distanceWeight * distanceSq;
+            if (healthWeight != 0 && entity instanceof LivingEntity living) {
+                score += healthWeight * living.getHealth();
+            }
+            if (priorityWeight != 0) {
+                score -= priorityWeight * SeaCreatureClassifier.getPriority(entity);
+            }
+
+            if (score < bestScore) {
+                bestScore = score;
+                best = entity;
+            }
+        }
+        return best;
+    }
+}
@@ -80,6 +80,8 @@ public class AbyssalFishingGUI extends Screen {
         }).dimensions(width - 220, btnY, 100, 20).build());
         
         addDrawableChild(ButtonWidget.builder(Text.literal("Discard"), btn -> {
+            // Toggles edit the config fields directly; put back the last saved values
+            config.revert();
             MinecraftClient.getInstance().setScreen(parent);
         }).dimensions(width - 110, btnY, 100, 20).build());
     }
@@ -135,7 +137,7 @@ public class AbyssalFishingGUI extends Screen {
         addDrawableChild(cooldownField);
         
         detectionDelayField = new TextFieldWidget(textRenderer, panelX + 10, timingY + gap * 4, 150, 20, Text.literal("Detection Delay (ms)"));
-        detectionDelayField.setText("1000");
+        detectionDelayField.setText(String.valueOf(config.detectionDelay));
         detectionDelayField.setMaxLength(5);
         addDrawableChild(detectionDelayField);
     }
@@ -538,7 +540,7 @@ public class AbyssalFishingGUI extends Screen {
             try {
                 String text = detectionDelayField.getText();
                 if (text != null && !text.isEmpty()) {
-                    // Store detection delay if needed (currently not in config, but safe to parse)
+                    config.detectionDelay = Long.parseLong(text);
                 }
             } catch (NumberFormatException e) {
                 AbyssalFishing.LOGGER.warn("Invalid detectionDelay: " + detectionDelayField.getText());
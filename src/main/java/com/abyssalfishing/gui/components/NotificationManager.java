@@ -1,5 +1,6 @@
 package com.abyssalfishing.gui.components;
 
+import com.abyssalfishing.utils.HudModel;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.MinecraftClient;
 import java.util.ArrayList;
@@ -12,6 +13,11 @@ public class NotificationManager {
     private static final int NOTIFICATION_WIDTH = 200;
     private static final int NOTIFICATION_HEIGHT = 30;
     private static final int NOTIFICATION_SPACING = 5;
+    private static final long NOTIFICATION_DURATION_MS = 3000;
+    
+    // Retained stack, relative to the newest slot; rebuilt only when a notification is added or expires
+    private final HudModel stack = new HudModel(0);
+    private int version;
     
     public static NotificationManager getInstance() {
         return INSTANCE;
@@ -22,6 +28,7 @@ public class NotificationManager {
         if (notifications.size() > MAX_NOTIFICATIONS) {
             notifications.remove(0);
         }
+        version++;
     }
     
     public void render(DrawContext context) {
@@ -32,14 +39,23 @@ public class NotificationManager {
         int startX = screenWidth - NOTIFICATION_WIDTH - 10;
         int startY = screenHeight - 100;
         
+        // Oldest first, so expired ones are always at the front
         long currentTime = System.currentTimeMillis();
-        notifications.removeIf(n -> currentTime - n.timestamp > 3000); // Remove after 3 seconds
+        while (!notifications.isEmpty() && currentTime - notifications.get(0).timestamp > NOTIFICATION_DURATION_MS) {
+            notifications.remove(0);
+            version++;
+        }
+        if (notifications.isEmpty()) return;
         
-        for (int i = 0; i < notifications.size(); i++) {
-            Notification notif = notifications.get(i);
-            int y = startY - (i * (NOTIFICATION_HEIGHT + NOTIFICATION_SPACING));
-            notif.render(context, startX, y, NOTIFICATION_WIDTH, NOTIFICATION_HEIGHT);
+        if (stack.isStale(version)) {
+            stack.rebuild(version);
+            for (int i = 0; i < notifications.size(); i++) {
+                Notification notif = notifications.get(i);
+                int y = -(i * (NOTIFICATION_HEIGHT + NOTIFICATION_SPACING));
+                notif.build(stack, 0, y, NOTIFICATION_WIDTH, NOTIFICATION_HEIGHT);
+            }
         }
+        stack.draw(context, startX, startY, 0xFFFFFF, true);
     }
     
     private static class Notification {
@@ -53,21 +69,20 @@ public class NotificationManager {
             this.timestamp = timestamp;
         }
         
-        void render(DrawContext context, int x, int y, int width, int height) {
+        void build(HudModel model, int x, int y, int width, int height) {
             // Main background (matching HUD style)
-            context.fill(x, y, x + width, y + height, 0xFF1A1A1A);
+            model.fill(x, y, x + width, y + height, 0xFF1A1A1A);
             
             // Title bar with type-specific accent color (matching HUD style)
             int accentColor = type == NotificationType.SUCCESS ? 0xFF2A4A2A :  // Subtle green
                              type == NotificationType.ERROR ? 0xFF4A2A2A :    // Subtle red
                              0xFF2A2A4A;  // Subtle blue for INFO
-            context.fill(x, y, x + width, y + 3, accentColor);
+            model.fill(x, y, x + width, y + 3, accentColor);
             
             // Border (matching HUD style - subtle)
-            context.drawBorder(x, y, width, height, 0xFF000000);
+            model.border(x, y, width, height, 0xFF000000);
             
             // Text with type-specific color (matching Minecraft color codes)
-            MinecraftClient client = MinecraftClient.getInstance();
             String displayText = message.length() > 30 ? message.substring(0, 27) + "..." : message;
             int textX = x + 6;
             int textY = y + (height - 8) / 2;
@@ -76,7 +91,7 @@ public class NotificationManager {
             String colorCode = type == NotificationType.SUCCESS ? "§a" :  // Green
                               type == NotificationType.ERROR ? "§c" :  // Red
                               "§e";  // Yellow for INFO
-            context.drawText(client.textRenderer, net.minecraft.text.Text.literal(colorCode + displayText), textX, textY, 0xFFFFFF, true);
+            model.add(colorCode + displayText, textX, textY);
         }
     }
     
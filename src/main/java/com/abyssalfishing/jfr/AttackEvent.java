@@ -0,0 +1,30 @@
+package com.abyssalfishing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("abyssalfishing.Attack")
+@Label("Sea Creature Attack")
+@Description("Attack issued by the sea creature killer")
+@Category("AbyssalFishing")
+@StackTrace(false)
+public class AttackEvent extends jdk.jfr.Event {
+    @Label("Method")
+    @Description("mage, melee or basic")
+    public String method;
+
+    @Label("Target")
+    public String target;
+
+    @Label("Target Health")
+    public float targetHealth;
+
+    @Label("Distance")
+    public double distance;
+
+    @Label("Attack Count")
+    public int attackCount;
+}
@@ -0,0 +1,31 @@
+package com.abyssalfishing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("abyssalfishing.BiteCheck")
+@Label("Bite Check")
+@Description("One tick-based bite check of a settled bobber")
+@Category("AbyssalFishing")
+@StackTrace(false)
+public class BiteCheckEvent extends jdk.jfr.Event {
+    @Label("Bite")
+    public boolean bite;
+
+    @Label("Method")
+    @Description("What flagged the bite: hooked, y-drop, velocity, or none")
+    public String method;
+
+    @Label("Y Drop")
+    @Description("Blocks below the settled Y")
+    public double yDrop;
+
+    @Label("Velocity Squared")
+    public double velocitySq;
+
+    @Label("Bobber Y")
+    public double bobberY;
+}
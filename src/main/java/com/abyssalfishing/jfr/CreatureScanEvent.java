@@ -0,0 +1,23 @@
+package com.abyssalfishing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("abyssalfishing.CreatureScan")
+@Label("Sea Creature Scan")
+@Description("Candidate lookup and target selection around the player")
+@Category("AbyssalFishing")
+@StackTrace(false)
+public class CreatureScanEvent extends jdk.jfr.Event {
+    @Label("Source")
+    public String source;
+
+    @Label("Candidates Scanned")
+    public int candidates;
+
+    @Label("Found")
+    public boolean found;
+}
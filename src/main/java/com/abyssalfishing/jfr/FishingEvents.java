@@ -0,0 +1,42 @@
+package com.abyssalfishing.jfr;
+
+import jdk.jfr.EventType;
+
+/**
+ * Enabled checks for the mod's JFR events. Call sites check these before creating
+ * an event, so nothing is allocated or computed unless a recording wants the event
+ * (e.g. {@code jcmd <pid> JFR.start})
+ */
+public class FishingEvents {
+    private static final EventType STATE_TRANSITION = EventType.getEventType(StateTransitionEvent.class);
+    private static final EventType BITE_CHECK = EventType.getEventType(BiteCheckEvent.class);
+    private static final EventType CREATURE_SCAN = EventType.getEventType(CreatureScanEvent.class);
+    private static final EventType ATTACK = EventType.getEventType(AttackEvent.class);
+
+    public static boolean stateTransitionEnabled() {
+        return STATE_TRANSITION.isEnabled();
+    }
+
+    public static boolean biteCheckEnabled() {
+        return BITE_CHECK.isEnabled();
+    }
+
+    public static boolean creatureScanEnabled() {
+        return CREATURE_SCAN.isEnabled();
+    }
+
+    public static boolean attackEnabled() {
+        return ATTACK.isEnabled();
+    }
+
+    /**
+     * Starts timing a creature scan, or returns null when the event is disabled
+     */
+    public static CreatureScanEvent beginCreatureScan(String source) {
+        if (!CREATURE_SCAN.isEnabled()) return null;
+        CreatureScanEvent event = new CreatureScanEvent();
+        event.source = source;
+        event.begin();
+        return event;
+    }
+}
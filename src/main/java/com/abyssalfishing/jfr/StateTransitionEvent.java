@@ -0,0 +1,25 @@
+package com.abyssalfishing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("abyssalfishing.StateTransition")
+@Label("Fishing State Transition")
+@Description("Fishing state machine moved to a new state")
+@Category("AbyssalFishing")
+@StackTrace(false)
+public class StateTransitionEvent extends jdk.jfr.Event {
+    @Label("From")
+    public String from;
+
+    @Label("To")
+    public String to;
+
+    @Label("Time In Previous State")
+    @Timespan(Timespan.MILLISECONDS)
+    public long dwell;
+}
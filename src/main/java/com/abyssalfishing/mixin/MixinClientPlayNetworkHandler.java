@@ -0,0 +1,42 @@
+package com.abyssalfishing.mixin;
+
+import com.abyssalfishing.AbyssalFishing;
+import com.abyssalfishing.core.FishingManager;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.network.packet.s2c.play.EntityPositionSyncS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntityS2CPacket;
+import net.minecraft.network.packet.s2c.play.EntityVelocityUpdateS2CPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ClientPlayNetworkHandler.class)
+public class MixinClientPlayNetworkHandler {
+
+    // HEAD runs first on the netty thread (before the handler re-queues itself onto the
+    // client thread) - only that first call is used, and it must not touch game state
+
+    @Inject(method = "onEntityVelocityUpdate", at = @At("HEAD"))
+    private void onEntityVelocityUpdate(EntityVelocityUpdateS2CPacket packet, CallbackInfo ci) {
+        FishingManager manager = AbyssalFishing.fishingManager;
+        if (manager == null || MinecraftClient.getInstance().isOnThread()) return;
+        manager.getPacketBiteDetector().onVelocityPacket(packet.getEntityId(), packet.getVelocityY());
+    }
+
+    // Most bobber movement arrives as relative moves; the absolute sync is only sent occasionally
+    @Inject(method = "onEntity", at = @At("HEAD"))
+    private void onEntity(EntityS2CPacket packet, CallbackInfo ci) {
+        FishingManager manager = AbyssalFishing.fishingManager;
+        if (manager == null || !packet.isPositionChanged() || MinecraftClient.getInstance().isOnThread()) return;
+        manager.getPacketBiteDetector().onMovePacket(packet.id, packet.getDeltaY());
+    }
+
+    @Inject(method = "onEntityPositionSync", at = @At("HEAD"))
+    private void onEntityPositionSync(EntityPositionSyncS2CPacket packet, CallbackInfo ci) {
+        FishingManager manager = AbyssalFishing.fishingManager;
+        if (manager == null || MinecraftClient.getInstance().isOnThread()) return;
+        manager.getPacketBiteDetector().onPositionPacket(packet.id(), packet.values().position().y);
+    }
+}
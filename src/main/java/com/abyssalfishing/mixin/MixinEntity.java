@@ -0,0 +1,34 @@
+package com.abyssalfishing.mixin;
+
+import com.abyssalfishing.features.NametagIndex;
+import com.abyssalfishing.features.SeaCreatureIndex;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.data.TrackedData;
+import net.minecraft.text.Text;
+import net.minecraft.world.World;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.Optional;
+
+@Mixin(Entity.class)
+public abstract class MixinEntity {
+
+    @Shadow @Final private static TrackedData<Optional<Text>> CUSTOM_NAME;
+
+    @Shadow public abstract World getWorld();
+
+    @Inject(method = "onTrackedDataSet", at = @At("HEAD"))
+    private void onTrackedDataSet(TrackedData<?> data, CallbackInfo ci) {
+        // Custom name changed (Hypixel renames mobs after spawn) - classification must be redone
+        if (data == CUSTOM_NAME && getWorld().isClient) {
+            Entity entity = (Entity) (Object) this;
+            NametagIndex.onNameChanged(entity);
+            SeaCreatureIndex.onNameChanged(entity);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.abyssalfishing.mixin;
 
 import com.abyssalfishing.AbyssalFishing;
+import com.abyssalfishing.core.FishingManager;
+import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.projectile.FishingBobberEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -9,21 +11,24 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(FishingBobberEntity.class)
 public class MixinFishingHook {
-    
-    @Inject(method = "tick", at = @At("HEAD"))
+
+    @Inject(method = "tick", at = @At("TAIL"))
     private void onTick(CallbackInfo ci) {
-        // Enhanced fishing bobber tick handling
+        FishingManager manager = AbyssalFishing.fishingManager;
+        if (manager == null || !manager.isActive()) return;
+
+        // Every bobber in the lobby ticks here - only forward our own hook
         FishingBobberEntity entity = (FishingBobberEntity) (Object) this;
-        
-        // Process fishing bobber state changes
-        if (AbyssalFishing.fishingManager != null && AbyssalFishing.fishingManager.isActive()) {
-            // Update fishing manager with bobber state
-        }
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player == null || client.player.fishHook != entity) return;
+
+        // Push the post-movement sample so bites are seen on the tick they happen
+        manager.onBobberTick(entity);
     }
-    
+
     @Inject(method = "remove", at = @At("HEAD"))
     private void onRemove(CallbackInfo ci) {
         // Handle fishing bobber removal
         AbyssalFishing.LOGGER.debug("Fishing bobber removed");
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,14 @@ public class MixinMinecraftClient {
         }
     }
     
+    @Inject(method = "render", at = @At("HEAD"))
+    private void onRender(boolean tick, CallbackInfo ci) {
+        // Run delayed actions once per frame as well, so short delays don't wait for the next tick
+        if (AbyssalFishing.fishingManager != null) {
+            AbyssalFishing.fishingManager.getScheduler().pump();
+        }
+    }
+    
     @Inject(method = "stop", at = @At("HEAD"))
     private void onStop(CallbackInfo ci) {
         // Cleanup when game stops
@@ -1,6 +1,8 @@
 package com.abyssalfishing.mixin;
 
 import com.abyssalfishing.AbyssalFishing;
+import com.abyssalfishing.core.FishingManager;
+import com.abyssalfishing.utils.SoundUtils;
 import net.minecraft.client.sound.SoundInstance;
 import net.minecraft.client.sound.SoundSystem;
 import org.spongepowered.asm.mixin.Mixin;
@@ -13,6 +15,12 @@ public class MixinSoundSystem {
     
     @Inject(method = "play", at = @At("HEAD"))
     private void onSoundPlay(SoundInstance sound, CallbackInfo ci) {
-        // Intercept sound playback for fishing detection
+        // Intercept sound playback for fishing detection - every sound passes here,
+        // so reject on the cheapest checks first
+        FishingManager manager = AbyssalFishing.fishingManager;
+        if (manager == null || !manager.isActive()) return;
+        if (!SoundUtils.isBiteSound(sound.getId())) return;
+        
+        manager.onBiteSound(sound.getX(), sound.getY(), sound.getZ());
     }
-}
\ No newline at end of file
+}
@@ -3,11 +3,13 @@ package com.abyssalfishing.utils;
 import com.abyssalfishing.AbyssalFishing;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
-import net.minecraft.text.Text;
 
 public class ActionBarRenderer {
     private static final MinecraftClient client = MinecraftClient.getInstance();
     
+    // Shaped message and its width, rebuilt only when a new message is set
+    private static final HudModel message = new HudModel(0);
+    
     public static void render(DrawContext context) {
         if (client.player == null) return;
         if (AbyssalFishing.fishingManager == null) return;
@@ -18,7 +20,13 @@ public class ActionBarRenderer {
         int screenWidth = client.getWindow().getScaledWidth();
         int screenHeight = client.getWindow().getScaledHeight();
 
-        int textWidth = client.textRenderer.getWidth(Text.literal(msg));
+        int version = AbyssalFishing.fishingManager.getHudMessageVersion();
+        if (message.isStale(version)) {
+            message.rebuild(version);
+            message.add(msg, 0, 0);
+        }
+
+        int textWidth = message.getWidth();
         int padding = 8;
         int boxWidth = textWidth + padding * 2;
         int boxHeight = 14 + padding;
@@ -34,6 +42,6 @@ public class ActionBarRenderer {
         context.drawBorder(x - 2, y - 2, boxWidth + 4, boxHeight + 4, 0xFF00FF00);
         
         // Draw text with shadow
-        context.drawText(client.textRenderer, Text.literal(msg), x + padding, y + (padding/2), 0xFFFFFF, true);
+        message.draw(context, x + padding, y + (padding/2), 0xFFFFFF, true);
     }
 }
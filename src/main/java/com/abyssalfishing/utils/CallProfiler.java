@@ -0,0 +1,130 @@
+package com.abyssalfishing.utils;
+
+import com.abyssalfishing.AbyssalFishing;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Measures the mod's own cost per call on the client thread: wall time, and bytes
+ * allocated by the thread (com.sun.management.ThreadMXBean), over a rolling window
+ * of the last calls of each section. Recording never allocates; the p50/p99 summary
+ * is recomputed at most twice a second when read
+ */
+public class CallProfiler {
+    public enum Section {
+        TICK("tick"),
+        FISHING_HUD("hud"),
+        ACTION_BAR("action bar"),
+        NOTIFICATIONS("notifications"),
+        DEBUG_OVERLAY("debug overlay");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private static final Section[] SECTIONS = Section.values();
+    private static final int WINDOW = 256; // Calls kept per section, power of two
+    private static final long SUMMARY_INTERVAL_NANOS = 500_000_000L;
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    // Rolling windows, written round-robin
+    private static final long[][] NANOS = new long[SECTIONS.length][WINDOW];
+    private static final long[][] BYTES = new long[SECTIONS.length][WINDOW];
+    private static final long[] CALLS = new long[SECTIONS.length];
+    private static final long[] START_NANOS = new long[SECTIONS.length];
+    private static final long[] START_BYTES = new long[SECTIONS.length];
+
+    // Cached summary, refreshed on read
+    private static final long[] SCRATCH = new long[WINDOW];
+    private static final long[] P50_NANOS = new long[SECTIONS.length];
+    private static final long[] P99_NANOS = new long[SECTIONS.length];
+    private static final long[] MEAN_BYTES = new long[SECTIONS.length];
+    private static long summaryNanos;
+
+    public static void begin(Section section) {
+        int i = section.ordinal();
+        START_BYTES[i] = allocatedBytes();
+        START_NANOS[i] = System.nanoTime();
+    }
+
+    public static void end(Section section) {
+        long now = System.nanoTime();
+        long bytes = allocatedBytes();
+        int i = section.ordinal();
+        int slot = (int) (CALLS[i]++ & (WINDOW - 1));
+        NANOS[i][slot] = now - START_NANOS[i];
+        BYTES[i][slot] = bytes - START_BYTES[i];
+    }
+
+    public static long getP50Nanos(Section section) {
+        refreshSummary();
+        return P50_NANOS[section.ordinal()];
+    }
+
+    public static long getP99Nanos(Section section) {
+        refreshSummary();
+        return P99_NANOS[section.ordinal()];
+    }
+
+    /**
+     * Mean bytes allocated per call over the window, or -1 if the JVM can't tell
+     */
+    public static long getMeanBytes(Section section) {
+        if (THREADS == null) return -1;
+        refreshSummary();
+        return MEAN_BYTES[section.ordinal()];
+    }
+
+    public static long getCalls(Section section) {
+        return CALLS[section.ordinal()];
+    }
+
+    private static void refreshSummary() {
+        long now = System.nanoTime();
+        if (summaryNanos != 0 && now - summaryNanos < SUMMARY_INTERVAL_NANOS) return;
+        summaryNanos = now;
+
+        for (int i = 0; i < SECTIONS.length; i++) {
+            int samples = (int) Math.min(CALLS[i], WINDOW);
+            if (samples == 0) continue;
+
+            System.arraycopy(NANOS[i], 0, SCRATCH, 0, samples);
+            Arrays.sort(SCRATCH, 0, samples);
+            P50_NANOS[i] = SCRATCH[(samples - 1) / 2];
+            P99_NANOS[i] = SCRATCH[(int) Math.ceil(samples * 0.99) - 1];
+
+            long totalBytes = 0;
+            for (int s = 0; s < samples; s++) {
+                totalBytes += BYTES[i][s];
+            }
+            MEAN_BYTES[i] = totalBytes / samples;
+        }
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                return bean;
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            AbyssalFishing.LOGGER.debug("Thread allocation tracking unavailable: " + e);
+        }
+        AbyssalFishing.LOGGER.info("Thread allocation tracking unavailable, profiler reports time only");
+        return null;
+    }
+}
@@ -1,6 +1,10 @@
 package com.abyssalfishing.utils;
 
 import com.abyssalfishing.AbyssalFishing;
+import com.abyssalfishing.core.BobberTelemetry;
+import com.abyssalfishing.core.CycleLatencyTracker;
+import com.abyssalfishing.core.FishingManager.FishingState;
+import com.abyssalfishing.core.FishingStateMachine;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.entity.projectile.FishingBobberEntity;
@@ -11,77 +15,147 @@ public class DebugOverlay {
     private static final int PADDING = 4;
     private static final int TEXT_COLOR = 0x00FF00; // Green text
 
+    // Bobber telemetry and profiler numbers move every tick, so the lines are rebuilt at
+    // most once per client tick (50ms) instead of every frame
+    private static final HudModel debug = new HudModel(50);
+
     public static void render(DrawContext context) {
         if (client.player == null) return;
         if (AbyssalFishing.fishingManager == null) return;
 
+        long version = HudModel.version(AbyssalFishing.fishingManager.getStatsVersion(),
+            AbyssalFishing.fishingManager.getStateMachine().getVersion());
+        if (debug.isStale(version)) {
+            rebuild(version);
+        }
+        debug.draw(context, 0, 0, TEXT_COLOR, false);
+    }
+
+    private static void rebuild(long version) {
+        debug.rebuild(version);
         int x = 5;
         int y = 5;
 
         // Title
-        drawString(context, "§6=== FISHING DEBUG ===", x, y);
+        debug.add("§6=== FISHING DEBUG ===", x, y);
         y += LINE_HEIGHT;
 
         // Fishing state
-        drawString(context, "§eState: §r" + AbyssalFishing.fishingManager.getCurrentState(), x, y);
+        debug.add("§eState: §r" + AbyssalFishing.fishingManager.getCurrentState(), x, y);
         y += LINE_HEIGHT;
 
-        drawString(context, "§eActive: §r" + (AbyssalFishing.fishingManager.isActive() ? "§aYES" : "§cNO"), x, y);
+        debug.add("§eActive: §r" + (AbyssalFishing.fishingManager.isActive() ? "§aYES" : "§cNO"), x, y);
         y += LINE_HEIGHT;
 
         // Bobber info
         FishingBobberEntity bobber = AbyssalFishing.fishingManager.getFishingBobber();
         if (bobber != null) {
-            double velocity = bobber.getVelocity().lengthSquared();
-            drawString(context, "§eBobber Velocity: §r" + String.format("%.6f", velocity), x, y);
+            // Read the samples FishingManager already collected instead of querying the entity again
+            BobberTelemetry telemetry = AbyssalFishing.fishingManager.getBobberTelemetry();
+            debug.add("§eBobber Velocity: §r" + String.format("%.6f", telemetry.getLatestVelocitySq()), x, y);
             y += LINE_HEIGHT;
 
-            double currentY = bobber.getY();
-            drawString(context, "§eBobber Y: §r" + String.format("%.2f", currentY), x, y);
+            debug.add("§eBobber Y: §r" + String.format("%.2f", telemetry.getLatestY()), x, y);
             y += LINE_HEIGHT;
 
-            drawString(context, "§eY Velocity: §r" + String.format("%.4f", bobber.getVelocity().y), x, y);
+            debug.add("§eY Delta: §r" + String.format("%.4f", telemetry.getLatestDy()), x, y);
+            y += LINE_HEIGHT;
+
+            debug.add("§eWindow: §rmean=" + String.format("%.2f", telemetry.getMeanY()) +
+                " sd=" + String.format("%.3f", Math.sqrt(telemetry.getVarianceY())) +
+                " min=" + String.format("%.2f", telemetry.getMinY()), x, y);
             y += LINE_HEIGHT;
 
             // Settlement status
             String settlementStatus = getSettlementStatus();
-            drawString(context, "§eSettled: §r" + settlementStatus, x, y);
+            debug.add("§eSettled: §r" + settlementStatus, x, y);
             y += LINE_HEIGHT;
 
             // Detection threshold
-            drawString(context, "§eThresholds: §rVel=0.001 | Y=0.15", x, y);
+            debug.add("§eThresholds: §rVel=0.001 | Y=0.15", x, y);
             y += LINE_HEIGHT;
         } else {
-            drawString(context, "§eBobber: §cNOT FOUND", x, y);
+            debug.add("§eBobber: §cNOT FOUND", x, y);
             y += LINE_HEIGHT;
         }
 
         // Statistics
         y += LINE_HEIGHT;
-        drawString(context, "§6=== STATS ===", x, y);
+        debug.add("§6=== STATS ===", x, y);
         y += LINE_HEIGHT;
 
-        drawString(context, "§eCatches: §r" + AbyssalFishing.fishingManager.getTotalCatches(), x, y);
+        debug.add("§eCatches: §r" + AbyssalFishing.fishingManager.getTotalCatches(), x, y);
         y += LINE_HEIGHT;
 
-        drawString(context, "§eConsecutive: §r" + AbyssalFishing.fishingManager.getConsecutiveCatches(), x, y);
+        debug.add("§eConsecutive: §r" + AbyssalFishing.fishingManager.getConsecutiveCatches(), x, y);
         y += LINE_HEIGHT;
         
-        drawString(context, "§eFailed: §r" + AbyssalFishing.fishingManager.getFailedCatches(), x, y);
+        debug.add("§eFailed: §r" + AbyssalFishing.fishingManager.getFailedCatches(), x, y);
         y += LINE_HEIGHT;
         
         double successRate = AbyssalFishing.fishingManager.getSuccessRate();
-        drawString(context, "§eSuccess Rate: §r" + String.format("%.1f%%", successRate), x, y);
+        debug.add("§eSuccess Rate: §r" + String.format("%.1f%%", successRate), x, y);
         y += LINE_HEIGHT;
 
         long sessionTime = AbyssalFishing.fishingManager.getSessionTime() / 1000;
-        drawString(context, "§eSession Time: §r" + sessionTime + "s", x, y);
+        debug.add("§eSession Time: §r" + sessionTime + "s", x, y);
         y += LINE_HEIGHT;
 
+        // Per-state dwell times of completed fishing cycles
+        FishingStateMachine stateMachine = AbyssalFishing.fishingManager.getStateMachine();
+        Histogram cycles = stateMachine.getCycleHistogram();
+        if (cycles.getCount() > 0) {
+            debug.add("§eCycles: §r" + cycles.getCount() +
+                " p50=" + formatSeconds(cycles.percentile(0.5)) +
+                " p90=" + formatSeconds(cycles.percentile(0.9)) +
+                " max=" + formatSeconds(cycles.getMax()), x, y);
+            y += LINE_HEIGHT;
+
+            debug.add("§eLast Cycle: §rC " + formatSeconds(stateMachine.getLastCycleDwell(FishingState.CASTING)) +
+                " W " + formatSeconds(stateMachine.getLastCycleDwell(FishingState.WAITING)) +
+                " R " + formatSeconds(stateMachine.getLastCycleDwell(FishingState.REELING)) +
+                " K " + formatSeconds(stateMachine.getLastCycleDwell(FishingState.KILLING_CREATURE)) +
+                " CD " + formatSeconds(stateMachine.getLastCycleDwell(FishingState.COOLDOWN)), x, y);
+            y += LINE_HEIGHT;
+
+            debug.add("§eWait p50/p90: §r" + formatSeconds(stateMachine.getDwellHistogram(FishingState.WAITING).percentile(0.5)) +
+                "/" + formatSeconds(stateMachine.getDwellHistogram(FishingState.WAITING).percentile(0.9)), x, y);
+            y += LINE_HEIGHT;
+        }
+
+        // Cycle stage latencies
+        CycleLatencyTracker latency = AbyssalFishing.fishingManager.getLatencyTracker();
+        if (!latency.isEmpty()) {
+            y += LINE_HEIGHT;
+            debug.add("§6=== LATENCY (ms) ===", x, y);
+            y += LINE_HEIGHT;
+
+            for (CycleLatencyTracker.Stage stage : CycleLatencyTracker.Stage.values()) {
+                Histogram histogram = latency.getHistogram(stage);
+                debug.add("§e" + stage.getLabel() + ": §r" + String.format("p50=%.0f p90=%.0f p99=%.0f max=%.0f",
+                    histogram.percentile(0.5) / 1000.0, histogram.percentile(0.9) / 1000.0,
+                    histogram.percentile(0.99) / 1000.0, histogram.getMax() / 1000.0), x, y);
+                y += LINE_HEIGHT;
+            }
+        }
+
+        // The mod's own cost per call (rolling window)
+        y += LINE_HEIGHT;
+        debug.add("§6=== MOD COST (p50/p99) ===", x, y);
+        y += LINE_HEIGHT;
+        for (CallProfiler.Section section : CallProfiler.Section.values()) {
+            if (CallProfiler.getCalls(section) == 0) continue;
+            long bytes = CallProfiler.getMeanBytes(section);
+            debug.add("§e" + section.getLabel() + ": §r" + String.format("%.0f/%.0fus",
+                CallProfiler.getP50Nanos(section) / 1000.0, CallProfiler.getP99Nanos(section) / 1000.0) +
+                (bytes >= 0 ? " " + formatBytes(bytes) + "/call" : ""), x, y);
+            y += LINE_HEIGHT;
+        }
+
         // Sea Creature Killer info
         if (AbyssalFishing.fishingManager.getCurrentState() == com.abyssalfishing.core.FishingManager.FishingState.KILLING_CREATURE) {
             y += LINE_HEIGHT;
-            drawString(context, "§6=== SEA CREATURE ===", x, y);
+            debug.add("§6=== SEA CREATURE ===", x, y);
             y += LINE_HEIGHT;
             
             com.abyssalfishing.features.SeaCreatureKiller killer = 
@@ -90,17 +164,17 @@ public class DebugOverlay {
                 float health = killer.getTargetHealth();
                 float maxHealth = killer.getTargetMaxHealth();
                 double distance = killer.getTargetDistance();
-                drawString(context, "§eHP: §r" + String.format("%.1f/%.1f", health, maxHealth), x, y);
+                debug.add("§eHP: §r" + String.format("%.1f/%.1f", health, maxHealth), x, y);
                 y += LINE_HEIGHT;
-                drawString(context, "§eDistance: §r" + String.format("%.2f", distance), x, y);
+                debug.add("§eDistance: §r" + String.format("%.2f", distance), x, y);
                 y += LINE_HEIGHT;
-                drawString(context, "§eAttacks: §r" + killer.getAttackCount(), x, y);
+                debug.add("§eAttacks: §r" + killer.getAttackCount(), x, y);
             }
         }
 
         // Control hints
         y += LINE_HEIGHT;
-        drawString(context, "§7Press L to toggle debug", x, y);
+        debug.add("§7Press L to toggle debug, K to dump latency", x, y);
     }
 
     private static String getSettlementStatus() {
@@ -109,7 +183,7 @@ public class DebugOverlay {
         if (bobber == null) return "§cN/A";
 
         boolean isSettled = AbyssalFishing.fishingManager.isBobberSettled();
-        double velocity = bobber.getVelocity().lengthSquared();
+        double velocity = AbyssalFishing.fishingManager.getBobberTelemetry().getLatestVelocitySq();
 
         if (isSettled) {
             return "§aREADY (vel=" + String.format("%.6f", velocity) + ")";
@@ -118,7 +192,11 @@ public class DebugOverlay {
         }
     }
 
-    private static void drawString(DrawContext context, String text, int x, int y) {
-        context.drawText(client.textRenderer, text, x, y, TEXT_COLOR, false);
+    private static String formatBytes(long bytes) {
+        return bytes < 1024 ? bytes + "B" : String.format("%.1fKB", bytes / 1024.0);
+    }
+
+    private static String formatSeconds(long ms) {
+        return String.format("%.1fs", ms / 1000.0);
     }
 }
@@ -0,0 +1,76 @@
+package com.abyssalfishing.utils;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-bucket histogram of non-negative long values (durations, byte counts).
+ * Buckets are log-linear: exact below 8, then 8 sub-buckets per power of two, so a
+ * value's bucket is within 12.5% of it. All storage is allocated up front and
+ * record() never allocates
+ */
+public class Histogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Enough buckets for any non-negative long
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts[bucketOf(value)]++;
+        count++;
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    /**
+     * Value at quantile {@code q} (0..1): the upper bound of its bucket, capped at the
+     * largest recorded value. 0 when empty
+     */
+    public long percentile(double q) {
+        if (count == 0) return 0;
+        long rank = Math.max(1L, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    public long getCount() { return count; }
+    public long getSum() { return sum; }
+    public long getMin() { return count > 0 ? min : 0; }
+    public long getMax() { return max; }
+    public double getMean() { return count > 0 ? (double) sum / count : 0.0; }
+
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        int sub = bucket & (SUB_BUCKETS - 1);
+        return ((long) (SUB_BUCKETS + sub) << shift) + (1L << shift) - 1;
+    }
+}
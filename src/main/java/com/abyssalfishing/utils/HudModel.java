@@ -0,0 +1,109 @@
+package com.abyssalfishing.utils;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.text.OrderedText;
+import net.minecraft.text.Text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Retained draw list for one HUD element: background rects plus text lines shaped into
+ * {@link OrderedText} and measured once per rebuild, then replayed as-is every frame.
+ * Everything is relative to the origin passed to {@link #draw}, so a window resize or
+ * GUI scale change only moves the element. The owner rebuilds only when {@link #isStale}
+ * says so: its source version changed, or the refresh interval for time-based values ran out
+ */
+public class HudModel {
+    private static final MinecraftClient client = MinecraftClient.getInstance();
+
+    private record Rect(int x1, int y1, int x2, int y2, int color) {}
+
+    private record Line(OrderedText text, int width, int x, int y) {}
+
+    private final long refreshMs;
+    private final List<Rect> rects = new ArrayList<>();
+    private final List<Line> lines = new ArrayList<>();
+    private boolean built;
+    private long version;
+    private long builtAtMs;
+    private int width;
+
+    /**
+     * @param refreshMs how long lines stay valid with an unchanged version, 0 for no limit
+     */
+    public HudModel(long refreshMs) {
+        this.refreshMs = refreshMs;
+    }
+
+    /**
+     * Packs two int counters into one version for {@link #isStale}
+     */
+    public static long version(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    public boolean isStale(long version) {
+        if (!built || version != this.version) return true;
+        return refreshMs > 0 && System.currentTimeMillis() - builtAtMs >= refreshMs;
+    }
+
+    /**
+     * Drops the current rects and lines; add the new ones right after
+     */
+    public void rebuild(long version) {
+        this.version = version;
+        builtAtMs = System.currentTimeMillis();
+        built = true;
+        rects.clear();
+        lines.clear();
+        width = 0;
+    }
+
+    public void fill(int x1, int y1, int x2, int y2, int color) {
+        rects.add(new Rect(x1, y1, x2, y2, color));
+    }
+
+    /**
+     * Same outline as {@link DrawContext#drawBorder}
+     */
+    public void border(int x, int y, int width, int height, int color) {
+        fill(x, y, x + width, y + 1, color);
+        fill(x, y + height - 1, x + width, y + height, color);
+        fill(x, y + 1, x + 1, y + height - 1, color);
+        fill(x + width - 1, y + 1, x + width, y + height - 1, color);
+    }
+
+    public void add(String text, int x, int y) {
+        OrderedText ordered = Text.literal(text).asOrderedText();
+        int lineWidth = client.textRenderer.getWidth(ordered);
+        lines.add(new Line(ordered, lineWidth, x, y));
+        width = Math.max(width, x + lineWidth);
+    }
+
+    /**
+     * Replays the rects in order, then the text on top in {@code color}
+     */
+    public void draw(DrawContext context, int x, int y, int color, boolean shadow) {
+        for (int i = 0; i < rects.size(); i++) {
+            Rect rect = rects.get(i);
+            context.fill(x + rect.x1(), y + rect.y1(), x + rect.x2(), y + rect.y2(), rect.color());
+        }
+        for (int i = 0; i < lines.size(); i++) {
+            Line line = lines.get(i);
+            context.drawText(client.textRenderer, line.text(), x + line.x(), y + line.y(), color, shadow);
+        }
+    }
+
+    public boolean isEmpty() {
+        return rects.isEmpty() && lines.isEmpty();
+    }
+
+    /**
+     * Right edge of the widest line, relative to the model's origin
+     */
+    public int getWidth() {
+        return width;
+    }
+}
@@ -0,0 +1,129 @@
+package com.abyssalfishing.utils;
+
+/**
+ * Multi-pattern substring matcher (Aho-Corasick automaton) for entity names.
+ * Built once; each match is a single pass over the name that skips Minecraft
+ * color codes and folds case on the fly, without creating intermediate strings.
+ * Supports up to 64 lowercase ASCII patterns and reports matches as a bit mask
+ */
+public class NameMatcher {
+    public static final int MAX_PATTERNS = 64;
+    private static final char FORMATTING_CHAR = '§';
+    private static final String FORMATTING_CODES = "0123456789abcdefklmnor";
+
+    // Character -> alphabet class; 0 is "not in any pattern"
+    private final byte[] charClass = new byte[128];
+    private final int alphabetSize;
+    // Full DFA: transitions[state * alphabetSize + class] -> next state
+    private final int[] transitions;
+    // Bit i set when pattern i ends at this state (failure outputs merged in)
+    private final long[] outputs;
+
+    public NameMatcher(String... patterns) {
+        if (patterns.length > MAX_PATTERNS) {
+            throw new IllegalArgumentException("At most " + MAX_PATTERNS + " patterns supported, got " + patterns.length);
+        }
+
+        // Alphabet of characters that occur in patterns
+        int classes = 1;
+        int maxStates = 1;
+        for (String pattern : patterns) {
+            if (pattern.isEmpty()) {
+                throw new IllegalArgumentException("Empty pattern");
+            }
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c >= 128 || Character.isUpperCase(c)) {
+                    throw new IllegalArgumentException("Patterns must be lowercase ASCII: " + pattern);
+                }
+                if (charClass[c] == 0) {
+                    charClass[c] = (byte) classes++;
+                }
+            }
+            maxStates += pattern.length();
+        }
+        this.alphabetSize = classes;
+
+        // Trie (-1 = no edge yet)
+        int[] trie = new int[maxStates * classes];
+        java.util.Arrays.fill(trie, -1);
+        long[] out = new long[maxStates];
+        int stateCount = 1;
+        for (int p = 0; p < patterns.length; p++) {
+            int state = 0;
+            String pattern = patterns[p];
+            for (int i = 0; i < pattern.length(); i++) {
+                int edge = state * classes + charClass[pattern.charAt(i)];
+                if (trie[edge] == -1) {
+                    trie[edge] = stateCount++;
+                }
+                state = trie[edge];
+            }
+            out[state] |= 1L << p;
+        }
+
+        // Breadth-first failure links, turning the trie into a complete DFA
+        int[] fail = new int[stateCount];
+        int[] queue = new int[stateCount];
+        int head = 0;
+        int tail = 0;
+        for (int c = 0; c < classes; c++) {
+            int next = trie[c];
+            if (next == -1) {
+                trie[c] = 0;
+            } else {
+                fail[next] = 0;
+                queue[tail++] = next;
+            }
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            out[state] |= out[fail[state]];
+            for (int c = 0; c < classes; c++) {
+                int edge = state * classes + c;
+                int next = trie[edge];
+                if (next == -1) {
+                    trie[edge] = trie[fail[state] * classes + c];
+                } else {
+                    fail[next] = trie[fail[state] * classes + c];
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        this.transitions = java.util.Arrays.copyOf(trie, stateCount * classes);
+        this.outputs = java.util.Arrays.copyOf(out, stateCount);
+    }
+
+    /**
+     * Returns a bit mask of every pattern found in the name (bit i = pattern i),
+     * ignoring case and § formatting codes
+     */
+    public long match(CharSequence name) {
+        if (name == null) return 0L;
+
+        long found = 0L;
+        int state = 0;
+        int length = name.length();
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c == FORMATTING_CHAR && i + 1 < length && FORMATTING_CODES.indexOf(name.charAt(i + 1)) >= 0) {
+                i++; // Skip the code character as well
+                continue;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            } else if (c >= 128) {
+                c = Character.toLowerCase(c);
+            }
+            int cls = c < 128 ? charClass[c] : 0;
+            state = transitions[state * alphabetSize + cls];
+            found |= outputs[state];
+        }
+        return found;
+    }
+
+    public boolean matchesAny(CharSequence name) {
+        return match(name) != 0L;
+    }
+}
@@ -2,9 +2,9 @@ package com.abyssalfishing.utils;
 
 import com.abyssalfishing.AbyssalFishing;
 import com.abyssalfishing.config.AbyssalConfig;
+import com.abyssalfishing.core.FishingManager;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
-import net.minecraft.text.Text;
 
 public class RenderUtils {
     private static final MinecraftClient client = MinecraftClient.getInstance();
@@ -13,64 +13,79 @@ public class RenderUtils {
     // HUD positioning
     private static int hudX = 10;
     private static int hudY = 10;
+    private static final int PANEL_WIDTH = 220;
+    
+    // Retained panel (background and text), rebuilt on stat/state changes and once a second for the catch rate
+    private static final HudModel hud = new HudModel(1000);
     
     public static void renderFishingHUD(DrawContext context) {
-        if (!config.showHUD) return;
+        if (!config.snapshot().showHUD()) return;
         if (client.player == null) return;
         if (AbyssalFishing.fishingManager == null) return;
         
+        FishingManager manager = AbyssalFishing.fishingManager;
+        long version = HudModel.version(manager.getStatsVersion(), manager.getStateMachine().getVersion());
+        if (hud.isStale(version)) {
+            rebuildHUD(manager, version);
+        }
+        
+        hud.draw(context, hudX, hudY, 0xFFFFFF, true);
+    }
+    
+    // Everything is relative to the panel origin; the rate is time-based, hence the refresh interval
+    private static void rebuildHUD(FishingManager manager, long version) {
+        hud.rebuild(version);
+        
         // Main HUD Panel (dark style)
-        int panelWidth = 220;
-        int panelHeight = calculateHUDHeight();
-        drawDarkPanel(context, hudX, hudY, panelWidth, panelHeight, "AbyssalFishing");
+        buildDarkPanel(PANEL_WIDTH, calculateHUDHeight(), "AbyssalFishing");
         
         // Content
-        int contentX = hudX + 8;
-        int contentY = hudY + 22;
+        int contentX = 8;
+        int contentY = 22;
         int lineHeight = 12;
         
         // Status
-        String status = AbyssalFishing.fishingManager.isActive() ? "§aActive" : "§cInactive";
-        drawText(context, "Status: " + status, contentX, contentY, 0xFFFFFF);
+        String status = manager.isActive() ? "§aActive" : "§cInactive";
+        hud.add("Status: " + status, contentX, contentY);
         
         // State
-        String state = AbyssalFishing.fishingManager.getCurrentState().toString();
-        drawText(context, "State: §e" + state, contentX, contentY + lineHeight, 0xFFFFFF);
+        String state = manager.getCurrentState().toString();
+        hud.add("State: §e" + state, contentX, contentY + lineHeight);
         
         // Statistics
-        int totalCatches = AbyssalFishing.fishingManager.getTotalCatches();
-        int seaCreatures = AbyssalFishing.fishingManager.getSeaCreaturesCaught();
-        int consecutive = AbyssalFishing.fishingManager.getConsecutiveCatches();
+        int totalCatches = manager.getTotalCatches();
+        int seaCreatures = manager.getSeaCreaturesCaught();
+        int consecutive = manager.getConsecutiveCatches();
         
-        drawText(context, "§7Total: §a" + totalCatches, contentX, contentY + lineHeight * 2, 0xFFFFFF);
-        drawText(context, "§7Creatures: §d" + seaCreatures, contentX, contentY + lineHeight * 3, 0xFFFFFF);
+        hud.add("§7Total: §a" + totalCatches, contentX, contentY + lineHeight * 2);
+        hud.add("§7Creatures: §d" + seaCreatures, contentX, contentY + lineHeight * 3);
         
         // Catch rate
-        long sessionTime = AbyssalFishing.fishingManager.getSessionTime();
+        long sessionTime = manager.getSessionTime();
         if (sessionTime > 0) {
             double hours = sessionTime / 3600000.0;
             if (hours > 0) {
                 double catchRate = totalCatches / hours;
-                drawText(context, String.format("§7Rate: §e%.1f/h", catchRate), contentX, contentY + lineHeight * 4, 0xFFFFFF);
+                hud.add(String.format("§7Rate: §e%.1f/h", catchRate), contentX, contentY + lineHeight * 4);
                 
                 if (totalCatches > 0) {
                     double creaturePercent = (seaCreatures * 100.0) / totalCatches;
-                    drawText(context, String.format("§7SC: §d%.1f%%", creaturePercent), contentX + 110, contentY + lineHeight * 4, 0xFFFFFF);
+                    hud.add(String.format("§7SC: §d%.1f%%", creaturePercent), contentX + 110, contentY + lineHeight * 4);
                 }
             }
         }
         
         // Streak
         if (consecutive > 0) {
-            drawText(context, "§7Streak: §e" + consecutive, contentX, contentY + lineHeight * 5, 0xFFFFFF);
+            hud.add("§7Streak: §e" + consecutive, contentX, contentY + lineHeight * 5);
         }
         
         // Success rate
-        double successRate = AbyssalFishing.fishingManager.getSuccessRate();
+        double successRate = manager.getSuccessRate();
         if (successRate > 0) {
-            int failed = AbyssalFishing.fishingManager.getFailedCatches();
-            drawText(context, "§7Success: §e" + String.format("%.1f%%", successRate) + 
-                (failed > 0 ? " §7(" + failed + " failed)" : ""), contentX, contentY + lineHeight * 6, 0xFFFFFF);
+            int failed = manager.getFailedCatches();
+            hud.add("§7Success: §e" + String.format("%.1f%%", successRate) + 
+                (failed > 0 ? " §7(" + failed + " failed)" : ""), contentX, contentY + lineHeight * 6);
         }
     }
     
@@ -85,20 +100,16 @@ public class RenderUtils {
         return 80;
     }
     
-    private static void drawDarkPanel(DrawContext context, int x, int y, int width, int height, String title) {
+    private static void buildDarkPanel(int width, int height, String title) {
         // Main background (dark gray)
-        context.fill(x, y, x + width, y + height, 0xFF1A1A1A);
-        context.drawBorder(x, y, width, height, 0xFF000000);
+        hud.fill(0, 0, width, height, 0xFF1A1A1A);
+        hud.border(0, 0, width, height, 0xFF000000);
         
         // Title bar
-        context.fill(x, y, x + width, y + 18, 0xFF2A2A2A);
-        context.drawText(client.textRenderer, title, x + 6, y + 5, 0xFFFFFF, true);
+        hud.fill(0, 0, width, 18, 0xFF2A2A2A);
+        hud.add(title, 6, 5);
         
         // Separator line
-        context.fill(x + 4, y + 18, x + width - 4, y + 19, 0xFF000000);
-    }
-    
-    private static void drawText(DrawContext context, String text, int x, int y, int color) {
-        context.drawText(client.textRenderer, Text.literal(text), x, y, color, true);
+        hud.fill(4, 18, width - 4, 19, 0xFF000000);
     }
 }
@@ -4,11 +4,22 @@ import com.abyssalfishing.AbyssalFishing;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.sound.PositionedSoundInstance;
 import net.minecraft.sound.SoundEvent;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
 
 public class SoundUtils {
     private static final MinecraftClient client = MinecraftClient.getInstance();
     
+    // The splash the server plays at the hook on a bite. Generic and player splashes are left
+    // out: any mob or player entering water nearby plays those. Sounds played from the registry
+    // share this Identifier instance, so an identity check is enough and costs almost nothing
+    private static final Identifier BITE_SOUND_ID = SoundEvents.ENTITY_FISHING_BOBBER_SPLASH.id();
+    
+    public static boolean isBiteSound(Identifier soundId) {
+        return soundId == BITE_SOUND_ID;
+    }
+    
     public static void playSound(SoundEvent sound, float volume, float pitch) {
         if (client.player == null || sound == null) return;
         